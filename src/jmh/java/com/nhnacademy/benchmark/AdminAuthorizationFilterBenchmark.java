@@ -0,0 +1,81 @@
+package com.nhnacademy.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.common.AESUtil;
+import com.nhnacademy.common.filter.AdminAuthorizationFilter;
+import com.nhnacademy.common.resolver.UserEmailArgumentResolver;
+import com.nhnacademy.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link AdminAuthorizationFilter#doFilter}의 요청당 비용을 측정합니다.
+ * <p>
+ * 역할 조회는 stub 전용 Mock으로 대신하므로 DB와 캐시를 제외한 필터 자체(헤더 복호화 캐시 조회, 역할 비교)만 남습니다.
+ * 복호화 캐시는 미리 채워 두어 같은 사용자가 반복 요청하는 상황을 재현합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdminAuthorizationFilterBenchmark {
+
+    private static final String ADMIN_EMAIL = "admin@test.com";
+
+    private AdminAuthorizationFilter filter;
+    private String encryptedEmail;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        // 기본 logback 설정은 DEBUG를 콘솔에 출력하므로 측정에서 제외한다
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+        AESUtil aesUtil = new AESUtil();
+        aesUtil.setKey("TestAESKey123456789012345678901234567890123");
+        encryptedEmail = aesUtil.encrypt(ADMIN_EMAIL);
+
+        // stubOnly: 호출 기록을 남기지 않아 반복 호출 중 메모리가 늘지 않는다
+        UserService userService = Mockito.mock(UserService.class, Mockito.withSettings().stubOnly());
+        when(userService.getUserRole(ADMIN_EMAIL)).thenReturn("ROLE_ADMIN");
+
+        UserEmailArgumentResolver resolver = new UserEmailArgumentResolver(aesUtil,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), 10_000, Duration.ofMinutes(30));
+        filter = new AdminAuthorizationFilter(resolver, userService);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse adminRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/users");
+        request.addHeader(UserEmailArgumentResolver.USER_ID_HEADER, encryptedEmail);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse nonAdminRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,60 @@
+package com.nhnacademy.benchmark;
+
+import com.common.AESUtil;
+import com.nhnacademy.common.resolver.UserEmailArgumentResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code X-User-Id} 헤더 복호화 비용을 측정합니다.
+ * <p>
+ * {@code decrypt}는 캐시 미스 시 매번 수행되는 AES 복호화 자체,
+ * {@code resolveCached}는 컨트롤러의 {@code @UserEmail} 파라미터가 캐시를 통해 이메일을 얻는 경로입니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AesDecryptBenchmark {
+
+    private static final String SECRET_KEY = "TestAESKey123456789012345678901234567890123";
+
+    private AESUtil aesUtil;
+    private UserEmailArgumentResolver resolver;
+    private String encryptedEmail;
+
+    @Setup
+    public void setUp() {
+        aesUtil = new AESUtil();
+        aesUtil.setKey(SECRET_KEY);
+        encryptedEmail = aesUtil.encrypt("member@test.com");
+
+        resolver = new UserEmailArgumentResolver(aesUtil,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), 10_000, Duration.ofMinutes(30));
+        resolver.resolveUserEmail(request());
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return aesUtil.decrypt(encryptedEmail);
+    }
+
+    @Benchmark
+    public String resolveCached() {
+        return resolver.resolveUserEmail(request());
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        request.addHeader(UserEmailArgumentResolver.USER_ID_HEADER, encryptedEmail);
+        return request;
+    }
+}
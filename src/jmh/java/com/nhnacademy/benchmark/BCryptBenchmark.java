@@ -0,0 +1,47 @@
+package com.nhnacademy.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강도(cost)별 BCrypt 해시와 검증 시간을 측정합니다.
+ * <p>
+ * 회원가입/비밀번호 변경은 {@code encode}, 로그인은 {@code matches} 비용을 그대로 사용하므로
+ * {@code user.password-hash.*} 실행기 크기와 타임아웃을 정할 때 기준으로 씁니다.
+ * 다른 강도는 {@code -p strength=8,14}처럼 지정합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BCryptBenchmark {
+
+    private static final String RAW_PASSWORD = "Password1!";
+
+    @Param({"4", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
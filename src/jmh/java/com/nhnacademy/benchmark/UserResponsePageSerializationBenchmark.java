@@ -0,0 +1,56 @@
+package com.nhnacademy.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.eventlevel.dto.EventLevelResponse;
+import com.nhnacademy.user.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /admin/users} 응답인 {@code Page<UserResponse>}의 JSON 직렬화 시간을 측정합니다.
+ * <p>
+ * ObjectMapper는 Boot와 같은 {@link Jackson2ObjectMapperBuilder} 기본값으로 만듭니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserResponsePageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<UserResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<UserResponse> content = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            content.add(new UserResponse("ROLE_MEMBER", i, "회원" + i, "member" + i + "@test.com", "010-1234-5678",
+                    new DepartmentResponse("DEP-001", "개발팀"),
+                    new EventLevelResponse("INFO", "일반 정보", 1)));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "eventAt")), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.benchmark;
+
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.eventlevel.dto.EventLevelResponse;
+import com.nhnacademy.user.domain.QUser;
+import com.nhnacademy.user.dto.UserResponse;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.FactoryExpressionUtils;
+import com.querydsl.core.types.Projections;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryDSL {@code Projections.constructor}로 {@link UserResponse}를 만드는 비용을 측정합니다.
+ * <p>
+ * {@code CustomUserRepositoryImpl}과 같은 중첩 프로젝션을 쿼리 실행 시처럼 평탄화해 한 행씩 변환하고,
+ * 생성자를 직접 호출한 경우와 비교합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserResponseProjectionBenchmark {
+
+    private FactoryExpression<UserResponse> projection;
+    private Object[] row;
+
+    @Setup
+    public void setUp() {
+        QUser qUser = QUser.user;
+        projection = FactoryExpressionUtils.wrap(Projections.constructor(
+                UserResponse.class,
+                qUser.role.roleId,
+                qUser.userNo,
+                qUser.userName,
+                qUser.userEmail,
+                qUser.userPhone,
+                Projections.constructor(DepartmentResponse.class,
+                        qUser.department.departmentId,
+                        qUser.department.departmentName
+                ),
+                Projections.constructor(EventLevelResponse.class,
+                        qUser.eventLevel.eventLevelName,
+                        qUser.eventLevel.eventLevelDetails,
+                        qUser.eventLevel.priority
+                )
+        ));
+        row = new Object[]{"ROLE_MEMBER", 1L, "회원", "member@test.com", "010-1234-5678",
+                "DEP-001", "개발팀", "INFO", "일반 정보", 1};
+    }
+
+    @Benchmark
+    public UserResponse projection() {
+        return projection.newInstance(row);
+    }
+
+    @Benchmark
+    public UserResponse constructor() {
+        return new UserResponse((String) row[0], (Long) row[1], (String) row[2], (String) row[3], (String) row[4],
+                new DepartmentResponse((String) row[5], (String) row[6]),
+                new EventLevelResponse((String) row[7], (String) row[8], (Integer) row[9]));
+    }
+}
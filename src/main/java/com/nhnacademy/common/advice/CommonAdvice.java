@@ -1,6 +1,8 @@
 package com.nhnacademy.common.advice;
 
 import com.nhnacademy.common.exception.CommonHttpException;
+import com.nhnacademy.common.exception.TooManyRequestsException;
+import org.springframework.http.HttpHeaders;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -64,6 +66,25 @@ public class CommonAdvice {
                 .body("CommonException: " + e.getMessage());
     }
 
+    /**
+     * {@link TooManyRequestsException} 예외 처리 메서드입니다.
+     * <p>
+     * 429 응답에 다시 시도할 수 있을 때까지의 시간(초)을 {@code Retry-After} 헤더로 함께 보냅니다.
+     * </p>
+     *
+     * @param e TooManyRequestsException 예외 객체
+     * @return 429 Too Many Requests 응답
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<String> tooManyRequestsExceptionHandler(TooManyRequestsException e) {
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+
+        return ResponseEntity
+                .status(e.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body("CommonException: " + e.getMessage());
+    }
+
     /**
      * 그 외 모든 예외(Throwable)를 처리하는 메서드입니다.
      * <p>
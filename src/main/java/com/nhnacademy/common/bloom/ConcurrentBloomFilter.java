@@ -0,0 +1,126 @@
+package com.nhnacademy.common.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 스레드가 잠금 없이 추가·조회할 수 있는 문자열 블룸 필터입니다.
+ * <p>
+ * 비트는 {@link AtomicLongArray}에 두고 추가 시 필요한 워드만 CAS로 갱신하며, 조회는 volatile 읽기만 합니다.
+ * {@code false}는 "확실히 추가된 적 없음", {@code true}는 "추가됐을 수 있음"을 뜻합니다.
+ * 해시 위치는 64비트 해시 두 개를 조합(double hashing)해 계산합니다.
+ * </p>
+ */
+public final class ConcurrentBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private ConcurrentBloomFilter(long bitSize, int hashCount, long capacity) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 비트 수와 해시 함수 수를 정해 필터를 만듭니다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 오탐률 (0 초과 1 미만)
+     * @return 빈 필터
+     */
+    public static ConcurrentBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new ConcurrentBloomFilter(bits, hashes, n);
+    }
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+            setBit(bit);
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * 값이 추가됐을 가능성이 있는지 확인합니다.
+     *
+     * @param value 확인할 값
+     * @return 추가된 적이 없으면 false, 추가됐을 수 있으면 true
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 생성 시 예상한 원소 수보다 많이 추가돼 오탐률이 목표보다 높아졌는지 여부입니다.
+     */
+    public boolean isSaturated() {
+        return insertions.get() > capacity;
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+
+        long current;
+        do {
+            current = words.get(index);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(index, current, current | mask));
+    }
+
+    /**
+     * UTF-8 바이트에 대한 FNV-1a 64비트 해시에 비트 확산(murmur3 finalizer)을 더합니다.
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.common.cache;
+
+/**
+ * 애플리케이션에서 사용하는 캐시 이름을 정의하는 상수 클래스입니다.
+ */
+public final class CacheNames {
+
+    /**
+     * 사용자 이메일별 권한(roleId) 캐시
+     */
+    public static final String USER_ROLE = "userRole";
+
+    /**
+     * 사용자 이메일별 {@code UserResponse} 캐시
+     */
+    public static final String USER_RESPONSE = "userResponse";
+
+    /**
+     * 부서·우선순위별 알림 수신자 목록 캐시
+     */
+    public static final String DEPARTMENT_RECIPIENTS = "departmentRecipients";
+
+    private CacheNames() {
+    }
+}
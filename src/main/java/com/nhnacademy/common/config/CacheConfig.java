@@ -0,0 +1,74 @@
+package com.nhnacademy.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.common.cache.CacheNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Caffeine 기반의 프로세스 내 캐시 설정 클래스입니다.
+ * <p>
+ * 캐시마다 최대 크기와 TTL을 따로 지정할 수 있도록 캐시를 개별 등록합니다.
+ * 모든 캐시는 통계를 기록하므로 Actuator의 {@code cache.gets}, {@code cache.evictions} 등의 지표로 확인할 수 있습니다.
+ * </p>
+ * <p>
+ * 캐시 매니저는 {@link TransactionAwareCacheManagerProxy}로 감싸, 트랜잭션 안의 무효화와 저장을 커밋 뒤로 미룹니다.
+ * 호출 시점에 바로 지우면 커밋 전에 들어온 동시 조회가 변경 전 행을 다시 캐시에 넣어, 예를 들어 권한을 내린 관리자가
+ * TTL 동안 관리자 권한을 유지할 수 있기 때문입니다. 트랜잭션 밖에서는 그대로 즉시 반영됩니다.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${user.cache.role.max-size:10000}")
+    private long userRoleMaxSize;
+
+    @Value("${user.cache.role.ttl:PT5M}")
+    private Duration userRoleTtl;
+
+    @Value("${user.cache.user.max-size:10000}")
+    private long userResponseMaxSize;
+
+    @Value("${user.cache.user.ttl:PT10M}")
+    private Duration userResponseTtl;
+
+    @Value("${user.cache.recipients.max-size:1000}")
+    private long recipientsMaxSize;
+
+    @Value("${user.cache.recipients.ttl:PT5M}")
+    private Duration recipientsTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+
+        cacheManager.registerCustomCache(CacheNames.USER_ROLE, Caffeine.newBuilder()
+                .maximumSize(userRoleMaxSize)
+                .expireAfterWrite(userRoleTtl)
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(CacheNames.USER_RESPONSE, Caffeine.newBuilder()
+                .maximumSize(userResponseMaxSize)
+                .expireAfterWrite(userResponseTtl)
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(CacheNames.DEPARTMENT_RECIPIENTS, Caffeine.newBuilder()
+                .maximumSize(recipientsMaxSize)
+                .expireAfterWrite(recipientsTtl)
+                .recordStats()
+                .build());
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,34 @@
+package com.nhnacademy.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.common.metrics.TimedJacksonHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 지연 시간을 구간별로 나눠 보기 위한 지표 설정입니다.
+ * <p>
+ * 서비스/리포지토리 타이머는 {@code @Timed}로, AES 복호화는 {@code UserEmailArgumentResolver}에서,
+ * 비밀번호 해시는 {@code passwordHash} 실행기 지표로 기록하고, 여기서는 JSON 직렬화 타이머를 등록합니다.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Boot 기본 Jackson 컨버터를 대신하는 직렬화 시간 측정 컨버터를 등록합니다.
+     *
+     * @param objectMapper  Boot가 구성한 ObjectMapper
+     * @param meterRegistry 지표 레지스트리 (없으면 전역 레지스트리)
+     * @return Jackson 메시지 컨버터
+     */
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(
+            ObjectMapper objectMapper, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TimedJacksonHttpMessageConverter(objectMapper,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
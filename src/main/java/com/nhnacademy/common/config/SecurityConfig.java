@@ -1,22 +1,77 @@
 package com.nhnacademy.common.config;
 
 import com.common.AESUtil;
+import com.nhnacademy.common.security.BulkheadPasswordEncoder;
+import com.nhnacademy.common.security.PasswordEncoderFactory;
+import com.nhnacademy.common.security.PasswordHashAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
     @Value("${aes.secret.key}")
     private String secretKey;
 
+    @Value("${user.password-hash.pool-size:0}")
+    private int passwordHashPoolSize;
+
+    @Value("${user.password-hash.queue-capacity:64}")
+    private int passwordHashQueueCapacity;
+
+    @Value("${user.password-hash.timeout:PT3S}")
+    private Duration passwordHashTimeout;
+
+    @Value("${user.password-hash.algorithm:bcrypt}")
+    private String passwordHashAlgorithm;
+
+    @Value("${user.password-hash.cost:0}")
+    private int passwordHashCost;
+
+    @Value("${user.password-hash.calibration-target:PT0S}")
+    private Duration passwordHashCalibrationTarget;
+
+    /**
+     * 설정한 알고리즘으로 해시하고, 다른 알고리즘이나 낮은 비용으로 저장된 기존 해시도 검증하는 인코더입니다.
+     * <p>
+     * 비용을 지정하지 않으면(0) 알고리즘 기본값을 사용합니다. 보정 목표 시간이 있으면 기동 시 이 호스트에서 해시 한 번이
+     * 목표 시간에 가까워지도록 비용을 올리며, 지정한 비용은 하한으로만 쓰입니다.
+     * </p>
+     * <p>
+     * 해시 풀은 인코더가 소유하고 컨텍스트 종료 시 {@link BulkheadPasswordEncoder#close()}로 함께 종료됩니다.
+     * 풀을 {@code Executor} 빈으로 노출하면 Spring Boot가 {@code applicationTaskExecutor}를 만들지 않아
+     * MVC 비동기 처리가 데코레이터도 가상 스레드도 없는 {@code SimpleAsyncTaskExecutor}로 실행되므로 빈으로 두지 않습니다.
+     * </p>
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BulkheadPasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry) {
+        PasswordHashAlgorithm algorithm = PasswordHashAlgorithm.of(passwordHashAlgorithm);
+        int cost = passwordHashCost > 0 ? passwordHashCost : algorithm.defaultCost();
+
+        if (!passwordHashCalibrationTarget.isZero()) {
+            int calibrated = PasswordEncoderFactory.calibrate(algorithm, cost, passwordHashCalibrationTarget);
+            log.info("password hash cost calibrated: algorithm={}, target={}, cost {} -> {}",
+                    algorithm.id(), passwordHashCalibrationTarget, cost, calibrated);
+            cost = calibrated;
+        }
+
+        return new BulkheadPasswordEncoder(PasswordEncoderFactory.create(algorithm, cost),
+                passwordHashExecutor(meterRegistry.getIfAvailable()), passwordHashTimeout);
     }
 
     @Bean
@@ -25,4 +80,44 @@ public class SecurityConfig {
         aesUtil.setKey(secretKey);
         return aesUtil;
     }
+
+    /**
+     * 비밀번호 해시 전용 스레드 풀을 만듭니다.
+     * <p>
+     * 풀 크기를 지정하지 않으면(0) CPU 코어 수를 사용하며, 대기열이 가득 차면 작업을 즉시 거절합니다.
+     * MeterRegistry가 있으면 {@code executor.*} 지표(활성 스레드, 대기열 길이, 처리 시간)를 등록합니다.
+     * </p>
+     * <p>
+     * 해시는 CPU 작업이라 가상 스레드로 얻을 이점이 없으므로, {@code spring.threads.virtual.enabled}와 관계없이
+     * 플랫폼 스레드 풀을 사용해 동시 해시 수를 코어 수 수준으로 묶어 둡니다.
+     * </p>
+     */
+    private ExecutorService passwordHashExecutor(MeterRegistry registry) {
+        int poolSize = passwordHashPoolSize > 0 ? passwordHashPoolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordHashQueueCapacity),
+                namedThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        if (registry == null) {
+            return executor;
+        }
+        return ExecutorServiceMetrics.monitor(registry, executor, "passwordHash");
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
@@ -0,0 +1,34 @@
+package com.nhnacademy.common.exception;
+
+/**
+ * 서버가 일시적으로 요청을 처리할 수 없을 때 사용되는 예외 클래스입니다.
+ * <p>
+ * HTTP 상태 코드 503 (Service Unavailable)을 나타냅니다.
+ * 예: 비밀번호 해시 작업 대기열이 가득 찬 경우 발생할 수 있습니다.
+ */
+public class ServiceUnavailableException extends CommonHttpException {
+
+    /**
+     * HTTP 상태 코드 503 (Service Unavailable)
+     */
+    private static final int HTTP_STATUS_CODE = 503;
+
+    /**
+     * 사용자 정의 메시지를 가진 예외를 생성합니다.
+     *
+     * @param message 예외 메시지
+     */
+    public ServiceUnavailableException(String message) {
+        super(HTTP_STATUS_CODE, message);
+    }
+
+    /**
+     * 사용자 정의 메시지와 원인 예외를 가진 예외를 생성합니다.
+     *
+     * @param message 예외 메시지
+     * @param cause   원인 예외
+     */
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(HTTP_STATUS_CODE, message, cause);
+    }
+}
@@ -0,0 +1,37 @@
+package com.nhnacademy.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 요청 빈도 제한을 넘었을 때 사용되는 예외 클래스입니다.
+ * <p>
+ * HTTP 상태 코드 429 (Too Many Requests)를 나타내며, 다시 시도할 수 있을 때까지의 시간을
+ * {@code Retry-After} 헤더로 전달합니다.
+ * 예: 같은 이메일이나 IP에서 로그인 시도가 너무 많은 경우 발생할 수 있습니다.
+ */
+@Getter
+public class TooManyRequestsException extends CommonHttpException {
+
+    /**
+     * HTTP 상태 코드 429 (Too Many Requests)
+     */
+    private static final int HTTP_STATUS_CODE = 429;
+
+    /**
+     * 다시 시도할 수 있을 때까지 남은 시간
+     */
+    private final Duration retryAfter;
+
+    /**
+     * 사용자 정의 메시지와 재시도 대기 시간을 가진 예외를 생성합니다.
+     *
+     * @param message    예외 메시지
+     * @param retryAfter 다시 시도할 수 있을 때까지 남은 시간
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(HTTP_STATUS_CODE, message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -1,6 +1,6 @@
 package com.nhnacademy.common.filter;
 
-import com.common.AESUtil;
+import com.nhnacademy.common.resolver.UserEmailArgumentResolver;
 import com.nhnacademy.user.service.UserService;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,11 +16,11 @@ import java.io.IOException;
 @Order(1)
 public class AdminAuthorizationFilter implements Filter {
 
-    private final AESUtil aesUtil;
+    private final UserEmailArgumentResolver userEmailResolver;
     private final UserService userService;
 
-    public AdminAuthorizationFilter(AESUtil aesUtil, UserService userService) {
-        this.aesUtil = aesUtil;
+    public AdminAuthorizationFilter(UserEmailArgumentResolver userEmailResolver, UserService userService) {
+        this.userEmailResolver = userEmailResolver;
         this.userService = userService;
     }
 
@@ -45,23 +45,23 @@ public class AdminAuthorizationFilter implements Filter {
         HttpServletResponse httpResponse = (HttpServletResponse) response;
         String uri = httpRequest.getRequestURI();
 
-        log.info("adminFilter out: {}", uri);
+        log.debug("adminFilter out: {}", uri);
 
         // /admin으로 시작하면 관리자 권한 체크
         if (uri.startsWith("/admin")) {
-            log.info("adminFilter in: {}", uri);
-            String encryptedEmail = httpRequest.getHeader("X-User-Id");
+            log.debug("adminFilter in: {}", uri);
+            // AES 복호화하여 이메일 추출 (요청 속성과 프로세스 캐시를 통해 재사용)
+            String email = userEmailResolver.resolveUserEmail(httpRequest);
 
             // 관리자 인증 정보가 없는 경우
-            if (encryptedEmail == null) {
+            if (email == null) {
                 log.debug("관리자 인증 정보 누락");
                 httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "관리자 인증 정보 누락");
                 return;
             }
 
-            // AES 복호화하여 이메일 추출 후 사용자 역할 확인
-            String email = aesUtil.decrypt(encryptedEmail);
-            String role = userService.getUser(email).getUserRole();
+            // 사용자 역할 확인
+            String role = userService.getUserRole(email);
 
             // 관리자 권한이 없는 경우
             if (!"ROLE_ADMIN".equals(role)) {
@@ -0,0 +1,62 @@
+package com.nhnacademy.common.filter;
+
+import com.nhnacademy.common.jdbc.DataSourceProxyPostProcessor;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 요청 한 건이 실행한 SQL 수를 기록하는 필터입니다.
+ * <p>
+ * 요청 시작 시 스레드의 집계를 초기화하고, 처리 후 합계가 임계값을 넘으면 경고 로그를 남깁니다.
+ * 관리자 인가 필터의 권한 조회까지 포함하도록 가장 앞에서 실행됩니다.
+ * 테스트가 요청 직후 집계를 검사할 수 있도록 종료 시점에는 초기화하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "user.jdbc.proxy.enabled", havingValue = "true")
+public class QueryCountFilter implements Filter {
+
+    private final int warnThreshold;
+
+    public QueryCountFilter(@Value("${user.jdbc.query-count.warn-threshold:20}") int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        QueryCountHolder.clear();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record((HttpServletRequest) request);
+        }
+    }
+
+    private void record(HttpServletRequest request) {
+        QueryCount count = QueryCountHolder.get(DataSourceProxyPostProcessor.DATA_SOURCE_NAME);
+        if (count == null) {
+            return;
+        }
+
+        if (count.getTotal() > warnThreshold) {
+            log.warn("SQL 실행 횟수 초과 {} {} - total={}, select={}, insert={}, update={}, delete={}",
+                    request.getMethod(), request.getRequestURI(), count.getTotal(),
+                    count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete());
+        } else {
+            log.debug("SQL 실행 횟수 {} {} - total={}", request.getMethod(), request.getRequestURI(), count.getTotal());
+        }
+    }
+}
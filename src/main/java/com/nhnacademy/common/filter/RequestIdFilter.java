@@ -0,0 +1,53 @@
+package com.nhnacademy.common.filter;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 요청 ID를 MDC에 넣어 로그에 함께 출력되도록 하는 필터입니다.
+ * <p>
+ * 게이트웨이가 {@value #HEADER} 헤더로 전달한 값이 있으면 그대로 사용하고, 없거나 형식이 맞지 않으면 새로 만듭니다.
+ * 같은 값을 응답 헤더에도 담아 호출한 쪽에서 로그를 추적할 수 있게 합니다.
+ * 다른 필터의 로그에도 요청 ID가 붙도록 가장 먼저 실행됩니다.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter implements Filter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        String requestId = resolveRequestId((HttpServletRequest) request);
+        MDC.put(MDC_KEY, requestId);
+        ((HttpServletResponse) response).setHeader(HEADER, requestId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private static String resolveRequestId(HttpServletRequest request) {
+        String requestId = request.getHeader(HEADER);
+        if (requestId != null && VALID_REQUEST_ID.matcher(requestId).matches()) {
+            return requestId;
+        }
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
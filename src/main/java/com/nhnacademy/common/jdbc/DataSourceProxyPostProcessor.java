@@ -0,0 +1,75 @@
+package com.nhnacademy.common.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 애플리케이션의 {@link DataSource}를 datasource-proxy로 감싸는 후처리기입니다.
+ * <p>
+ * {@code user.jdbc.proxy.enabled=true}이면 실행된 statement를 스레드별로
+ * {@link net.ttddyy.dsproxy.QueryCountHolder}에 select/insert/update/delete 별로 누적하고,
+ * {@code user.jdbc.slow-query.enabled=true}이면 {@link SlowQueryLogListener}로 느린 쿼리를 기록합니다.
+ * 둘 다 꺼져 있으면 원본 DataSource를 그대로 사용합니다.
+ * 프록시는 {@code unwrap}을 원본 풀에 위임하므로 커넥션 풀 메트릭과 헬스 체크는 그대로 동작합니다.
+ * </p>
+ * <p>
+ * 후처리기는 변환 서비스가 준비되기 전에 생성되므로 {@code @Value} 대신 {@link Environment}에서 설정을 읽습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    /**
+     * 집계 결과를 조회할 때 사용하는 데이터소스 이름입니다.
+     */
+    public static final String DATA_SOURCE_NAME = "user-service";
+
+    private final Environment environment;
+
+    public DataSourceProxyPostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+
+        boolean countQuery = environment.getProperty("user.jdbc.proxy.enabled", Boolean.class, false);
+        boolean slowQuery = environment.getProperty("user.jdbc.slow-query.enabled", Boolean.class, false);
+        if (!countQuery && !slowQuery) {
+            return bean;
+        }
+
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                .name(DATA_SOURCE_NAME);
+        if (countQuery) {
+            builder.countQuery();
+        }
+        if (slowQuery) {
+            builder.listener(slowQueryLogListener());
+        }
+
+        log.info("DataSource 프록시 적용: {} (countQuery={}, slowQuery={})", beanName, countQuery, slowQuery);
+        return builder.build();
+    }
+
+    private SlowQueryLogListener slowQueryLogListener() {
+        return new SlowQueryLogListener(
+                environment.getProperty("user.jdbc.slow-query.threshold", Duration.class, Duration.ofMillis(500)),
+                environment.getProperty("user.jdbc.slow-query.sample-rate", Double.class, 1.0),
+                environment.getProperty("user.jdbc.slow-query.parameters", SlowQueryLogListener.ParameterMode.class,
+                        SlowQueryLogListener.ParameterMode.REDACTED),
+                environment.getProperty("user.jdbc.slow-query.max-sql-length", Integer.class, 1000)
+        );
+    }
+}
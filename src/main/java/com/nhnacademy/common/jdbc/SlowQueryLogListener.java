@@ -0,0 +1,137 @@
+package com.nhnacademy.common.jdbc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 시간이 임계값을 넘은 SQL만 기록하는 리스너입니다.
+ * <p>
+ * 느린 쿼리 중 {@code sampleRate} 비율만 로그로 남기고, 건너뛴 건수는 다음 로그에 함께 출력합니다.
+ * 로그에는 요청의 HTTP 메서드와 매핑 패턴(예: {@code GET /admin/users/{userId}})을 붙여 어느 엔드포인트의 쿼리인지 구분합니다.
+ * 바인딩 파라미터는 {@link ParameterMode}에 따라 생략하거나, 문자열·바이너리 값을 가려서 출력합니다.
+ * </p>
+ */
+@Slf4j
+public class SlowQueryLogListener implements QueryExecutionListener {
+
+    /**
+     * 바인딩 파라미터 출력 방식입니다.
+     */
+    public enum ParameterMode {
+        /** 파라미터를 출력하지 않습니다. */
+        NONE,
+        /** 숫자·불리언·날짜만 출력하고 문자열과 바이너리는 길이만 출력합니다. */
+        REDACTED,
+        /** 모든 값을 그대로 출력합니다. 로컬 개발 환경에서만 사용합니다. */
+        PLAIN
+    }
+
+    private static final String NO_ENDPOINT = "-";
+
+    private final long thresholdMillis;
+    private final double sampleRate;
+    private final ParameterMode parameterMode;
+    private final int maxSqlLength;
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public SlowQueryLogListener(Duration threshold, double sampleRate, ParameterMode parameterMode, int maxSqlLength) {
+        this.thresholdMillis = threshold.toMillis();
+        this.sampleRate = Math.clamp(sampleRate, 0.0, 1.0);
+        this.parameterMode = parameterMode;
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // 실행 전에는 할 일이 없습니다.
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            suppressed.incrementAndGet();
+            return;
+        }
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            log.warn("느린 쿼리 {}ms [{}] batch={} suppressed={} sql={} params={}",
+                    execInfo.getElapsedTime(),
+                    currentEndpoint(),
+                    execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                    suppressed.getAndSet(0),
+                    compact(queryInfo.getQuery()),
+                    parameters(execInfo, queryInfo));
+        }
+    }
+
+    private String compact(String sql) {
+        String oneLine = sql.replaceAll("\\s+", " ").trim();
+        return oneLine.length() <= maxSqlLength ? oneLine : oneLine.substring(0, maxSqlLength) + "...";
+    }
+
+    private String parameters(ExecutionInfo execInfo, QueryInfo queryInfo) {
+        if (parameterMode == ParameterMode.NONE || execInfo.isBatch()) {
+            return "[]";
+        }
+
+        List<List<ParameterSetOperation>> parameterSets = queryInfo.getParametersList();
+        if (parameterSets.isEmpty()) {
+            return "[]";
+        }
+
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (ParameterSetOperation operation : parameterSets.get(0)) {
+            Object[] args = operation.getArgs();
+            boolean isNull = "setNull".equals(operation.getMethod().getName());
+            joiner.add(render(isNull || args.length < 2 ? null : args[1]));
+        }
+        return joiner.toString();
+    }
+
+    private String render(Object value) {
+        if (value == null || parameterMode == ParameterMode.PLAIN) {
+            return String.valueOf(value);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Temporal || value instanceof Date) {
+            return value.toString();
+        }
+        if (value instanceof CharSequence text) {
+            return "'***'(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<binary>(" + bytes.length + ")";
+        }
+        return "<" + value.getClass().getSimpleName().toLowerCase(Locale.ROOT) + ">";
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return NO_ENDPOINT;
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.common.logging;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 작업을 제출한 스레드의 MDC를 실행 스레드로 복사하는 데코레이터입니다.
+ * <p>
+ * Spring Boot가 {@code applicationTaskExecutor}에 자동으로 적용하므로,
+ * 스트리밍 응답 같은 MVC 비동기 처리와 {@code @Async} 작업의 로그에도 요청 ID가 유지됩니다.
+ * Boot는 다른 {@code Executor} 빈이 있으면 {@code applicationTaskExecutor}를 만들지 않으므로
+ * 전용 스레드 풀은 빈으로 등록하지 않고 사용하는 쪽이 소유합니다.
+ * ({@link com.nhnacademy.common.config.SecurityConfig#passwordEncoder} 참고)
+ * </p>
+ */
+@Component
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(context);
+            }
+            try {
+                runnable.run();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+}
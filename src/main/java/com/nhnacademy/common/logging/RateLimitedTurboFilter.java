@@ -0,0 +1,84 @@
+package com.nhnacademy.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 같은 메시지 형식의 로그를 구간마다 일정 건수까지만 통과시키는 Logback 터보 필터입니다.
+ * <p>
+ * 요청마다 찍히는 INFO/DEBUG 로그가 부하 상황에서 로그 큐를 가득 채우지 않도록,
+ * {@code loggerPrefix}로 시작하는 로거의 메시지를 형식 문자열 기준으로 {@code intervalMillis}마다 {@code maxPerInterval}건까지만 남깁니다.
+ * 초과분은 버리며, WARN/ERROR는 제한하지 않습니다.
+ * </p>
+ * <p>
+ * 추적하는 형식 문자열이 {@code maxKeys}를 넘으면 집계를 비우고 다시 시작해 메모리 사용량을 제한합니다.
+ * </p>
+ */
+public class RateLimitedTurboFilter extends TurboFilter {
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    private String loggerPrefix = "";
+    private int maxPerInterval = 100;
+    private long intervalMillis = 1000;
+    private int maxKeys = 1024;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel()) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (windows.size() > maxKeys) {
+            windows.clear();
+        }
+        Window window = windows.computeIfAbsent(format, key -> new Window());
+
+        return window.tryAcquire(System.currentTimeMillis(), intervalMillis, maxPerInterval)
+                ? FilterReply.NEUTRAL
+                : FilterReply.DENY;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxPerInterval(int maxPerInterval) {
+        this.maxPerInterval = maxPerInterval;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 형식 문자열 하나의 현재 구간 시작 시각과 통과 건수입니다.
+     */
+    private static final class Window {
+
+        private final AtomicLong start = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+
+        boolean tryAcquire(long now, long intervalMillis, int limit) {
+            long windowStart = start.get();
+            if (now - windowStart >= intervalMillis && start.compareAndSet(windowStart, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
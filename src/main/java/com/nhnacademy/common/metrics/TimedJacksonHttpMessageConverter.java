@@ -0,0 +1,44 @@
+package com.nhnacademy.common.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 응답 본문 JSON 직렬화 시간을 {@code user.http.serialization} 타이머로 기록하는 메시지 컨버터입니다.
+ * <p>
+ * 응답 객체 타입의 단순 이름을 {@code type} 태그로 붙여, 요청 지연 중 직렬화가 차지하는 몫을
+ * DB 조회나 비밀번호 해시와 구분해서 볼 수 있게 합니다.
+ * </p>
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private static final String METRIC_NAME = "user.http.serialization";
+
+    private final MeterRegistry meterRegistry;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("응답 본문 JSON 직렬화 시간")
+                    .tag("type", object.getClass().getSimpleName())
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.nhnacademy.common.persistence;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+/**
+ * 무결성 제약 위반 예외가 유니크 키 중복 때문인지 판별하는 유틸리티 클래스입니다.
+ * <p>
+ * JPA를 거친 예외는 {@link DuplicateKeyException}이 아니라 일반 {@link DataIntegrityViolationException}으로 변환되므로,
+ * 원인 체인의 {@link SQLException}에서 DB별 오류 코드를 확인합니다.
+ * </p>
+ */
+public final class DuplicateKeys {
+
+    /**
+     * MySQL ER_DUP_ENTRY
+     */
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    /**
+     * SQL 표준 unique_violation (H2, PostgreSQL)
+     */
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private DuplicateKeys() {
+    }
+
+    /**
+     * 예외가 유니크 키 중복으로 발생했는지 확인합니다.
+     *
+     * @param e 무결성 제약 위반 예외
+     * @return 유니크 키 중복이면 true, NOT NULL·외래 키 위반 등 다른 제약 위반이면 false
+     */
+    public static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+                    || UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.nhnacademy.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 프로세스 메모리에 카운터를 두는 {@link RateLimitStore} 구현입니다.
+ * <p>
+ * 키 맵은 내부적으로 분할 잠금을 쓰는 Caffeine 캐시로 크기를 제한하고, 키별 카운터는
+ * (윈도 번호, 직전 카운트, 현재 카운트)를 하나의 불변 값으로 묶어 CAS로 갱신하므로 증가 경로에서 잠금을 잡지 않습니다.
+ * 두 윈도 동안 접근이 없는 키는 만료되어 메모리에서 빠집니다.
+ * </p>
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicReference<Counter>> counters;
+
+    public InMemoryRateLimitStore(long maxKeys, Duration window) {
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .build();
+    }
+
+    @Override
+    public WindowCounts increment(String key, long window) {
+        AtomicReference<Counter> reference = counters.get(key, ignored -> new AtomicReference<>(new Counter(window, 0, 0)));
+
+        while (true) {
+            Counter counter = reference.get();
+            Counter next = counter.advance(window).increment();
+            if (reference.compareAndSet(counter, next)) {
+                return new WindowCounts(next.previous(), next.current());
+            }
+        }
+    }
+
+    private record Counter(long window, long previous, long current) {
+
+        Counter advance(long target) {
+            if (target <= window) {
+                return this;
+            }
+            // 바로 다음 윈도면 현재 카운트가 직전 카운트가 되고, 그보다 멀면 둘 다 비웁니다.
+            return new Counter(target, target == window + 1 ? current : 0, 0);
+        }
+
+        Counter increment() {
+            return new Counter(window, previous, current + 1);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.common.ratelimit;
+
+/**
+ * 슬라이딩 윈도 제한기가 사용하는 키별 카운터 저장소입니다.
+ * <p>
+ * 시간은 고정 길이 윈도로 나누고, 키마다 현재 윈도와 직전 윈도의 카운트만 보관합니다.
+ * 윈도 번호는 제한기가 계산해 넘기므로, 여러 인스턴스가 공유하는 외부 저장소(예: Redis의 {@code INCR}+{@code EXPIRE})로
+ * 구현을 바꿔도 같은 윈도를 가리킵니다. 빈으로 등록된 구현이 없으면 {@link InMemoryRateLimitStore}를 사용합니다.
+ * </p>
+ */
+public interface RateLimitStore {
+
+    /**
+     * 키의 {@code window} 카운트를 1 증가시키고 증가 후 카운트를 반환합니다.
+     *
+     * @param key    제한 대상 키
+     * @param window 현재 윈도 번호
+     * @return 직전 윈도와 현재 윈도(증가 후)의 카운트
+     */
+    WindowCounts increment(String key, long window);
+
+    /**
+     * 직전 윈도와 현재 윈도의 카운트입니다.
+     *
+     * @param previous {@code window - 1}의 카운트
+     * @param current  {@code window}의 카운트
+     */
+    record WindowCounts(long previous, long current) {
+    }
+}
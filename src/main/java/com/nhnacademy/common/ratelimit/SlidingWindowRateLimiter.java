@@ -0,0 +1,65 @@
+package com.nhnacademy.common.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 슬라이딩 윈도 카운터 방식의 빈도 제한기입니다.
+ * <p>
+ * 최근 {@code window} 동안의 요청 수를 "직전 윈도 카운트 × 남은 비율 + 현재 윈도 카운트"로 근사합니다.
+ * 키당 카운터 두 개만 필요하고, 고정 윈도처럼 경계 직전·직후에 한도의 두 배가 통과하는 문제가 없습니다.
+ * 거절된 시도도 카운트에 포함되므로, 계속 시도하는 클라이언트는 시도를 멈춰야 풀립니다.
+ * </p>
+ */
+public class SlidingWindowRateLimiter {
+
+    private final RateLimitStore store;
+    private final long limit;
+    private final long windowMillis;
+    private final Clock clock;
+
+    public SlidingWindowRateLimiter(RateLimitStore store, long limit, Duration window, Clock clock) {
+        if (limit <= 0 || window.toMillis() <= 0) {
+            throw new IllegalArgumentException("limit and window must be positive");
+        }
+        this.store = store;
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 키의 시도를 한 번 기록하고 허용 여부를 반환합니다.
+     *
+     * @param key 제한 대상 키
+     * @return 허용되면 {@link Duration#ZERO}, 거절되면 다시 시도할 수 있을 때까지의 시간
+     */
+    public Duration tryAcquire(String key) {
+        long now = clock.millis();
+        long window = now / windowMillis;
+        double elapsed = (double) (now % windowMillis) / windowMillis;
+
+        RateLimitStore.WindowCounts counts = store.increment(key, window);
+        double estimate = counts.previous() * (1 - elapsed) + counts.current();
+        if (estimate <= limit) {
+            return Duration.ZERO;
+        }
+        return retryAfter(counts, elapsed);
+    }
+
+    /**
+     * 새 시도가 없을 때, 다음 시도 한 번을 더해도 한도 안에 들어오는 시점까지의 시간을 계산합니다.
+     */
+    private Duration retryAfter(RateLimitStore.WindowCounts counts, double elapsed) {
+        double waitWindows;
+        if (counts.current() < limit) {
+            // 이번 윈도 안에서 직전 윈도의 가중치가 충분히 줄어들면 풀립니다.
+            double needed = 1 - (double) (limit - counts.current() - 1) / counts.previous();
+            waitWindows = needed - elapsed;
+        } else {
+            // 이번 윈도가 끝나고 현재 카운트가 직전 카운트로 넘어간 뒤, 그 가중치가 줄어들어야 풀립니다.
+            waitWindows = (1 - elapsed) + (1 - (double) (limit - 1) / counts.current());
+        }
+        return Duration.ofMillis(Math.max(1, (long) Math.ceil(waitWindows * windowMillis)));
+    }
+}
@@ -0,0 +1,230 @@
+package com.nhnacademy.common.reference;
+
+import com.nhnacademy.common.transaction.TransactionCallbacks;
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.department.repository.DepartmentRepository;
+import com.nhnacademy.eventlevel.dto.EventLevelResponse;
+import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.role.dto.RoleResponse;
+import com.nhnacademy.role.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 권한, 부서, 이벤트 레벨 목록을 메모리 스냅샷으로 제공하는 컴포넌트입니다.
+ * <p>
+ * 세 테이블은 작고 거의 바뀌지 않으므로, 목록 조회와 존재 여부 확인을 매번 DB에 묻지 않고
+ * {@link ReferenceDataSnapshot}에서 처리합니다. 스냅샷은 불변이며 {@link AtomicReference}로 통째로 교체되므로
+ * 읽는 쪽은 잠금 없이 항상 일관된 상태를 봅니다.
+ * </p>
+ * <p>
+ * 갱신 시점
+ * <ul>
+ *     <li>관리자가 권한/부서/이벤트 레벨을 추가·수정·삭제하면 커밋 후 해당 테이블만 다시 읽습니다.</li>
+ *     <li>다른 인스턴스의 변경은 {@code user.reference.refresh-interval} 주기의 재조회로 반영합니다.</li>
+ *     <li>스냅샷에 없는 식별자는 DB에서 한 번 더 확인하고, 존재하면 해당 테이블을 다시 읽습니다.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * 목록 API의 ETag는 {@code "<테이블>-<내용 다이제스트>"} 형식입니다. 인스턴스별 버전이나 기동 시각 대신
+ * 목록 내용에서 계산하므로, 로드밸런싱된 다른 인스턴스나 재기동 후에도 내용이 같으면 ETag가 일치합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+    private final RoleRepository roleRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EventLevelRepository eventLevelRepository;
+
+    private final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>();
+
+    public List<RoleResponse> getRoles() {
+        return current().getRoles();
+    }
+
+    public String getRolesETag() {
+        return eTag("roles", current().getRolesDigest());
+    }
+
+    public Optional<RoleResponse> findRole(String roleId) {
+        return Optional.ofNullable(current().getRole(roleId));
+    }
+
+    /**
+     * 권한 ID가 존재하는지 확인합니다.
+     *
+     * @param roleId 권한 ID
+     * @return 존재하면 true
+     */
+    public boolean existsRole(String roleId) {
+        if (current().getRole(roleId) != null) {
+            return true;
+        }
+        if (!roleRepository.existsById(roleId)) {
+            return false;
+        }
+
+        refreshRoles();
+        return true;
+    }
+
+    public List<DepartmentResponse> getDepartments() {
+        return current().getDepartments();
+    }
+
+    public String getDepartmentsETag() {
+        return eTag("departments", current().getDepartmentsDigest());
+    }
+
+    public Optional<DepartmentResponse> findDepartment(String departmentId) {
+        return Optional.ofNullable(current().getDepartment(departmentId));
+    }
+
+    /**
+     * 부서 ID가 존재하는지 확인합니다.
+     *
+     * @param departmentId 부서 ID
+     * @return 존재하면 true
+     */
+    public boolean existsDepartment(String departmentId) {
+        if (current().getDepartment(departmentId) != null) {
+            return true;
+        }
+        if (!departmentRepository.existsById(departmentId)) {
+            return false;
+        }
+
+        refreshDepartments();
+        return true;
+    }
+
+    public List<EventLevelResponse> getEventLevels() {
+        return current().getEventLevels();
+    }
+
+    public String getEventLevelsETag() {
+        return eTag("event-levels", current().getEventLevelsDigest());
+    }
+
+    public Optional<EventLevelResponse> findEventLevel(String levelName) {
+        return Optional.ofNullable(current().getEventLevel(levelName));
+    }
+
+    /**
+     * 이벤트 레벨이 존재하는지 확인합니다.
+     *
+     * @param levelName 이벤트 레벨 이름
+     * @return 존재하면 true
+     */
+    public boolean existsEventLevel(String levelName) {
+        if (current().getEventLevel(levelName) != null) {
+            return true;
+        }
+        if (!eventLevelRepository.existsById(levelName)) {
+            return false;
+        }
+
+        refreshEventLevels();
+        return true;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 권한 목록을 다시 읽습니다.
+     */
+    public void rolesChanged() {
+        TransactionCallbacks.afterCommit(this::refreshRoles);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 부서 목록을 다시 읽습니다.
+     */
+    public void departmentsChanged() {
+        TransactionCallbacks.afterCommit(this::refreshDepartments);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 이벤트 레벨 목록을 다시 읽습니다.
+     */
+    public void eventLevelsChanged() {
+        TransactionCallbacks.afterCommit(this::refreshEventLevels);
+    }
+
+    /**
+     * 세 테이블을 모두 다시 읽어 스냅샷을 교체합니다.
+     * <p>
+     * 내용이 바뀐 테이블만 버전이 올라가므로, 변경이 없으면 클라이언트의 ETag도 그대로 유효합니다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.reference.refresh-interval:PT5M}",
+            initialDelayString = "${user.reference.refresh-interval:PT5M}")
+    public void reconcile() {
+        ReferenceDataSnapshot loaded = load();
+        ReferenceDataSnapshot updated = snapshot.updateAndGet(current -> current == null
+                ? loaded
+                : current.withRoles(loaded.getRoles())
+                        .withDepartments(loaded.getDepartments())
+                        .withEventLevels(loaded.getEventLevels()));
+
+        log.debug("참조 데이터 스냅샷 갱신: 권한 {}개(v{}), 부서 {}개(v{}), 이벤트 레벨 {}개(v{})",
+                updated.getRoles().size(), updated.getRolesVersion(),
+                updated.getDepartments().size(), updated.getDepartmentsVersion(),
+                updated.getEventLevels().size(), updated.getEventLevelsVersion());
+    }
+
+    private ReferenceDataSnapshot current() {
+        ReferenceDataSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+
+        ReferenceDataSnapshot loaded = load();
+        return snapshot.compareAndSet(null, loaded) ? loaded : snapshot.get();
+    }
+
+    private ReferenceDataSnapshot load() {
+        return ReferenceDataSnapshot.of(
+                roleRepository.findAllRole().orElse(List.of()),
+                departmentRepository.findAllDepartment().orElse(List.of()),
+                eventLevelRepository.findAllEventLevel().orElse(List.of())
+        );
+    }
+
+    private void refreshRoles() {
+        List<RoleResponse> roles = roleRepository.findAllRole().orElse(List.of());
+        update(current -> current.withRoles(roles));
+    }
+
+    private void refreshDepartments() {
+        List<DepartmentResponse> departments = departmentRepository.findAllDepartment().orElse(List.of());
+        update(current -> current.withDepartments(departments));
+    }
+
+    private void refreshEventLevels() {
+        List<EventLevelResponse> eventLevels = eventLevelRepository.findAllEventLevel().orElse(List.of());
+        update(current -> current.withEventLevels(eventLevels));
+    }
+
+    private static String eTag(String table, String digest) {
+        return "\"" + table + "-" + digest + "\"";
+    }
+
+    private void update(UnaryOperator<ReferenceDataSnapshot> updater) {
+        if (snapshot.get() == null) {
+            reconcile();
+            return;
+        }
+        snapshot.updateAndGet(updater);
+    }
+}
@@ -0,0 +1,189 @@
+package com.nhnacademy.common.reference;
+
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.eventlevel.dto.EventLevelResponse;
+import com.nhnacademy.role.dto.RoleResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 권한, 부서, 이벤트 레벨 테이블의 특정 시점 내용을 담는 불변 스냅샷입니다.
+ * <p>
+ * 목록은 조회 순서를 유지하고, 식별자로 찾기 위한 맵을 함께 가집니다.
+ * 한 테이블이 바뀌면 {@code with*} 메서드로 해당 테이블만 교체한 새 스냅샷을 만듭니다.
+ * </p>
+ * <p>
+ * 테이블마다 버전을 가지며, {@code with*}로 교체한 내용이 이전과 다를 때만 해당 테이블의 버전이 1 증가합니다.
+ * 버전은 인스턴스마다 따로 세므로 ETag에는 쓰지 않고, 목록 내용의 SHA-256 다이제스트를 따로 계산해 둡니다.
+ * 같은 DB를 읽은 인스턴스라면 다이제스트가 같으므로 로드밸런싱된 요청에서도 ETag가 일치합니다.
+ * </p>
+ */
+public final class ReferenceDataSnapshot {
+
+    private static final Function<RoleResponse, List<Object>> ROLE_FIELDS =
+            role -> Arrays.asList(role.getRoleId(), role.getRoleName());
+    private static final Function<DepartmentResponse, List<Object>> DEPARTMENT_FIELDS =
+            department -> Arrays.asList(department.getDepartmentId(), department.getDepartmentName());
+    private static final Function<EventLevelResponse, List<Object>> EVENT_LEVEL_FIELDS =
+            eventLevel -> Arrays.asList(eventLevel.getEventLevelName(), eventLevel.getEventLevelDetails(), eventLevel.getPriority());
+
+    private final List<RoleResponse> roles;
+    private final Map<String, RoleResponse> rolesById;
+    private final long rolesVersion;
+    private final String rolesDigest;
+
+    private final List<DepartmentResponse> departments;
+    private final Map<String, DepartmentResponse> departmentsById;
+    private final long departmentsVersion;
+    private final String departmentsDigest;
+
+    private final List<EventLevelResponse> eventLevels;
+    private final Map<String, EventLevelResponse> eventLevelsByName;
+    private final long eventLevelsVersion;
+    private final String eventLevelsDigest;
+
+    private ReferenceDataSnapshot(List<RoleResponse> roles, long rolesVersion,
+                                  List<DepartmentResponse> departments, long departmentsVersion,
+                                  List<EventLevelResponse> eventLevels, long eventLevelsVersion) {
+        this.roles = List.copyOf(roles);
+        this.rolesById = index(this.roles, RoleResponse::getRoleId);
+        this.rolesVersion = rolesVersion;
+        this.rolesDigest = digest(this.roles, ROLE_FIELDS);
+        this.departments = List.copyOf(departments);
+        this.departmentsById = index(this.departments, DepartmentResponse::getDepartmentId);
+        this.departmentsVersion = departmentsVersion;
+        this.departmentsDigest = digest(this.departments, DEPARTMENT_FIELDS);
+        this.eventLevels = List.copyOf(eventLevels);
+        this.eventLevelsByName = index(this.eventLevels, EventLevelResponse::getEventLevelName);
+        this.eventLevelsVersion = eventLevelsVersion;
+        this.eventLevelsDigest = digest(this.eventLevels, EVENT_LEVEL_FIELDS);
+    }
+
+    public static ReferenceDataSnapshot of(List<RoleResponse> roles,
+                                           List<DepartmentResponse> departments,
+                                           List<EventLevelResponse> eventLevels) {
+        return new ReferenceDataSnapshot(roles, 1, departments, 1, eventLevels, 1);
+    }
+
+    public ReferenceDataSnapshot withRoles(List<RoleResponse> roles) {
+        if (sameContent(this.roles, roles, ROLE_FIELDS)) {
+            return this;
+        }
+        return new ReferenceDataSnapshot(roles, rolesVersion + 1,
+                departments, departmentsVersion, eventLevels, eventLevelsVersion);
+    }
+
+    public ReferenceDataSnapshot withDepartments(List<DepartmentResponse> departments) {
+        if (sameContent(this.departments, departments, DEPARTMENT_FIELDS)) {
+            return this;
+        }
+        return new ReferenceDataSnapshot(roles, rolesVersion,
+                departments, departmentsVersion + 1, eventLevels, eventLevelsVersion);
+    }
+
+    public ReferenceDataSnapshot withEventLevels(List<EventLevelResponse> eventLevels) {
+        if (sameContent(this.eventLevels, eventLevels, EVENT_LEVEL_FIELDS)) {
+            return this;
+        }
+        return new ReferenceDataSnapshot(roles, rolesVersion,
+                departments, departmentsVersion, eventLevels, eventLevelsVersion + 1);
+    }
+
+    public List<RoleResponse> getRoles() {
+        return roles;
+    }
+
+    public RoleResponse getRole(String roleId) {
+        return rolesById.get(roleId);
+    }
+
+    public long getRolesVersion() {
+        return rolesVersion;
+    }
+
+    public String getRolesDigest() {
+        return rolesDigest;
+    }
+
+    public List<DepartmentResponse> getDepartments() {
+        return departments;
+    }
+
+    public DepartmentResponse getDepartment(String departmentId) {
+        return departmentsById.get(departmentId);
+    }
+
+    public long getDepartmentsVersion() {
+        return departmentsVersion;
+    }
+
+    public String getDepartmentsDigest() {
+        return departmentsDigest;
+    }
+
+    public List<EventLevelResponse> getEventLevels() {
+        return eventLevels;
+    }
+
+    public EventLevelResponse getEventLevel(String levelName) {
+        return eventLevelsByName.get(levelName);
+    }
+
+    public long getEventLevelsVersion() {
+        return eventLevelsVersion;
+    }
+
+    public String getEventLevelsDigest() {
+        return eventLevelsDigest;
+    }
+
+    private static <T> Map<String, T> index(List<T> values, Function<T, String> keyExtractor) {
+        Map<String, T> indexed = new LinkedHashMap<>();
+        values.forEach(value -> indexed.put(keyExtractor.apply(value), value));
+        return Map.copyOf(indexed);
+    }
+
+    /**
+     * 목록 순서대로 각 항목의 필드를 길이와 함께 이어 붙여 SHA-256을 계산하고 앞 16바이트를 16진수로 반환합니다.
+     * 길이를 함께 넣어 필드 경계가 달라도 같은 입력이 되지 않게 합니다.
+     */
+    private static <T> String digest(List<T> values, Function<T, List<Object>> fields) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (T value : values) {
+            for (Object field : fields.apply(value)) {
+                byte[] bytes = String.valueOf(field).getBytes(StandardCharsets.UTF_8);
+                digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ':');
+                digest.update(bytes);
+            }
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private static <T> boolean sameContent(List<T> current, List<T> loaded, Function<T, List<Object>> fields) {
+        if (current.size() != loaded.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (!fields.apply(current.get(i)).equals(fields.apply(loaded.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.common.resolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 게이트웨이가 전달한 {@code X-User-Id} 헤더를 복호화한 사용자 이메일을 주입받을 파라미터에 지정합니다.
+ * <p>
+ * 복호화는 {@link UserEmailArgumentResolver}가 요청당 한 번만 수행하며, 동일한 암호문은 프로세스 캐시에서 재사용됩니다.
+ * </p>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UserEmail {
+}
@@ -0,0 +1,111 @@
+package com.nhnacademy.common.resolver;
+
+import com.common.AESUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.time.Duration;
+
+/**
+ * {@link UserEmail}이 지정된 파라미터에 복호화된 사용자 이메일을 주입하는 ArgumentResolver입니다.
+ * <p>
+ * 게이트웨이는 같은 사용자에 대해 동일한 암호문을 반복해서 보내므로, 암호문→이메일 매핑을
+ * 크기와 TTL이 제한된 프로세스 캐시에 보관합니다. 또한 복호화 결과를 요청 속성에 저장해
+ * {@code AdminAuthorizationFilter}와 컨트롤러가 같은 요청에서 두 번 복호화하지 않도록 합니다.
+ * </p>
+ * <p>
+ * 캐시에 없어 실제로 복호화한 시간은 {@code user.aes.decrypt} 타이머로 기록합니다.
+ * </p>
+ */
+@Component
+public class UserEmailArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    private static final String USER_EMAIL_ATTRIBUTE = UserEmailArgumentResolver.class.getName() + ".USER_EMAIL";
+
+    private final AESUtil aesUtil;
+    private final Cache<String, String> decryptedEmails;
+    private final Timer decryptTimer;
+
+    public UserEmailArgumentResolver(AESUtil aesUtil,
+                                     ObjectProvider<MeterRegistry> meterRegistry,
+                                     @Value("${user.cache.decrypt.max-size:10000}") long maxSize,
+                                     @Value("${user.cache.decrypt.ttl:PT30M}") Duration ttl) {
+        this.aesUtil = aesUtil;
+        this.decryptTimer = Timer.builder("user.aes.decrypt")
+                .description("X-User-Id 헤더 AES 복호화 시간 (캐시 미스)")
+                .register(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        this.decryptedEmails = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(UserEmail.class)
+                && String.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        String email = resolveUserEmail(webRequest.getNativeRequest(HttpServletRequest.class));
+
+        if (email == null) {
+            throw new MissingRequestHeaderException(USER_ID_HEADER, parameter);
+        }
+
+        return email;
+    }
+
+    /**
+     * 요청의 {@code X-User-Id} 헤더를 복호화한 이메일을 반환합니다.
+     * <p>
+     * 같은 요청 안에서는 요청 속성에 저장된 값을, 요청 간에는 프로세스 캐시의 값을 재사용합니다.
+     * </p>
+     *
+     * @param request HTTP 요청
+     * @return 복호화된 이메일, 헤더가 없으면 null
+     */
+    public String resolveUserEmail(HttpServletRequest request) {
+        if (request == null) {
+            return null;
+        }
+
+        Object resolved = request.getAttribute(USER_EMAIL_ATTRIBUTE);
+        if (resolved instanceof String email) {
+            return email;
+        }
+
+        String encryptedEmail = request.getHeader(USER_ID_HEADER);
+        if (encryptedEmail == null) {
+            return null;
+        }
+
+        // get(key, loader)는 복호화하는 동안 캐시 내부 잠금을 잡고 있어 가상 스레드가 캐리어에 고정될 수 있으므로,
+        // 조회와 저장을 나눕니다. 동시에 같은 암호문이 들어오면 중복 복호화될 수 있지만 결과는 같습니다.
+        String email = decryptedEmails.getIfPresent(encryptedEmail);
+        if (email == null) {
+            email = decryptTimer.record(() -> aesUtil.decrypt(encryptedEmail));
+            decryptedEmails.put(encryptedEmail, email);
+        }
+        request.setAttribute(USER_EMAIL_ATTRIBUTE, email);
+
+        return email;
+    }
+}
@@ -0,0 +1,147 @@
+package com.nhnacademy.common.security;
+
+import com.nhnacademy.common.exception.ServiceUnavailableException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시에 실행되는 해시 수를 전용 스레드 풀 크기로 제한하는 벌크헤드 {@link PasswordEncoder} 데코레이터입니다.
+ * <p>
+ * BCrypt 같은 해시는 요청 하나당 수십~수백 ms의 CPU를 사용하므로, 로그인이 몰리면 해시 계산이 CPU를 모두 차지해
+ * 다른 API까지 느려집니다. 이 클래스는 해시 작업을 크기와 대기열이 제한된 풀로 보내 동시 해시 수를 코어 수 수준으로 묶고,
+ * 대기열이 가득 차거나 대기 시간이 초과되면 즉시 {@link ServiceUnavailableException}으로 거절합니다.
+ * </p>
+ * <p>
+ * 비동기 인코더가 아닙니다. 호출한 요청 스레드는 해시가 끝날 때까지(최대 {@code timeout}) 그대로 기다리며,
+ * 해시마다 풀 스레드로 한 번 더 넘어가는 비용이 있습니다. 얻는 것은 동시 실행 수 제한과 과부하 시의 빠른 거절입니다.
+ * 요청 스레드 점유가 문제라면 {@code spring.threads.virtual.enabled}로 가상 스레드를 사용합니다.
+ * </p>
+ * <p>
+ * 생성자로 받은 풀은 이 인코더가 소유하며 {@link #close()}에서 종료합니다.
+ * </p>
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String OVERLOADED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    public BulkheadPasswordEncoder(PasswordEncoder delegate, ExecutorService executor, Duration timeout) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 여러 비밀번호를 해시 풀에서 병렬로 해시합니다.
+     * <p>
+     * 일괄 등록처럼 한 번에 많은 해시가 필요할 때 사용합니다. 풀에 동시에 맡기는 작업을 {@code parallelism}개로 제한하므로
+     * 나머지 스레드와 대기열은 로그인 요청이 계속 사용할 수 있습니다.
+     * </p>
+     *
+     * @param rawPasswords 평문 비밀번호 목록
+     * @param parallelism  동시에 실행할 최대 해시 작업 수
+     * @return 입력 순서와 같은 순서의 해시 목록
+     * @throws ServiceUnavailableException 풀이 가득 차 작업을 맡길 수 없는 경우
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords, int parallelism) {
+        Semaphore permits = new Semaphore(Math.max(1, parallelism));
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                permits.acquire();
+                try {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return delegate.encode(rawPassword);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    throw new ServiceUnavailableException(OVERLOADED_MESSAGE, e);
+                }
+            }
+
+            List<String> encoded = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                encoded.add(future.get());
+            }
+            return encoded;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(OVERLOADED_MESSAGE, e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 해시 풀을 종료합니다. 이미 제출된 해시는 끝까지 실행됩니다.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(OVERLOADED_MESSAGE, e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException(OVERLOADED_MESSAGE, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(OVERLOADED_MESSAGE, e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+}
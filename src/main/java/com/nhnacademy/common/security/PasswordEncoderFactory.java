@@ -0,0 +1,79 @@
+package com.nhnacademy.common.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알고리즘과 비용을 설정으로 고를 수 있는 {@link DelegatingPasswordEncoder}를 만듭니다.
+ * <p>
+ * 새 해시는 {@code {bcrypt}}, {@code {argon2}}, {@code {pbkdf2}} 접두사와 함께 저장되고, 검증은 접두사로 알고리즘을 고릅니다.
+ * 접두사가 없는 기존 해시는 BCrypt로 검증하며 {@code upgradeEncoding}이 true를 반환하므로 로그인 시 다시 해시됩니다.
+ * 같은 알고리즘이라도 저장된 비용이 설정보다 낮으면(BCrypt 라운드, Argon2 반복 횟수) 마찬가지로 다시 해시됩니다.
+ * </p>
+ */
+public final class PasswordEncoderFactory {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-P@ssw0rd";
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private PasswordEncoderFactory() {
+    }
+
+    /**
+     * 인코딩에 사용할 알고리즘과 비용을 지정해 위임 인코더를 만듭니다.
+     *
+     * @param algorithm 새 해시에 사용할 알고리즘
+     * @param cost      새 해시에 사용할 비용
+     * @return 모든 지원 알고리즘을 검증할 수 있는 위임 인코더
+     */
+    public static DelegatingPasswordEncoder create(PasswordHashAlgorithm algorithm, int cost) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        for (PasswordHashAlgorithm candidate : PasswordHashAlgorithm.values()) {
+            int candidateCost = candidate == algorithm ? cost : candidate.defaultCost();
+            encoders.put(candidate.id(), candidate.create(candidateCost));
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm.id(), encoders);
+        // 접두사 없는 기존 해시는 기본 강도의 BCrypt로 저장돼 있습니다.
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    /**
+     * 현재 호스트에서 해시 한 번이 목표 시간 안에 들어오는 가장 큰 비용을 찾습니다.
+     * <p>
+     * {@code minCost}로 몇 번 해시해 중앙값을 재고, 알고리즘의 비용-시간 관계로 목표 시간에 맞는 비용을 계산합니다.
+     * 결과는 {@code minCost}보다 낮아지지 않고 알고리즘 최대 비용을 넘지 않습니다.
+     * </p>
+     *
+     * @param algorithm 알고리즘
+     * @param minCost   최소 비용 (측정 기준)
+     * @param target    해시 한 번의 목표 시간
+     * @return 보정된 비용
+     */
+    public static int calibrate(PasswordHashAlgorithm algorithm, int minCost, Duration target) {
+        PasswordEncoder encoder = algorithm.create(minCost);
+        encoder.encode(CALIBRATION_PASSWORD);
+
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long measured = Math.max(1, samples[samples.length / 2]);
+
+        double ratio = (double) target.toNanos() / measured;
+        if (ratio <= 1) {
+            return minCost;
+        }
+        return Math.clamp(algorithm.scaleCost(minCost, ratio), minCost, algorithm.maxCost());
+    }
+}
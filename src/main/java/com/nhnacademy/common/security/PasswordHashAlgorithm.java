@@ -0,0 +1,97 @@
+package com.nhnacademy.common.security;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * 비밀번호 해시 알고리즘과 알고리즘별 비용(cost) 해석입니다.
+ * <p>
+ * 비용은 BCrypt에서는 log2 라운드 수(1 올릴 때마다 시간 2배), Argon2와 PBKDF2에서는 반복 횟수(시간에 비례)입니다.
+ * {@link #id}는 저장되는 해시의 {@code {id}} 접두사로 쓰입니다.
+ * </p>
+ */
+public enum PasswordHashAlgorithm {
+
+    BCRYPT("bcrypt", 10, 16) {
+        @Override
+        public PasswordEncoder create(int cost) {
+            return new BCryptPasswordEncoder(cost);
+        }
+
+        @Override
+        int scaleCost(int measuredCost, double ratio) {
+            return measuredCost + (int) Math.floor(Math.log(ratio) / Math.log(2));
+        }
+    },
+
+    ARGON2("argon2", 2, 20) {
+        @Override
+        public PasswordEncoder create(int cost) {
+            // Spring Security 5.8 기본값(메모리 16MiB, 병렬도 1)에서 반복 횟수만 조정합니다.
+            return new Argon2PasswordEncoder(16, 32, 1, 1 << 14, cost);
+        }
+    },
+
+    PBKDF2("pbkdf2", 310_000, 5_000_000) {
+        @Override
+        public PasswordEncoder create(int cost) {
+            return new Pbkdf2PasswordEncoder("", 16, cost,
+                    Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+        }
+    };
+
+    private final String id;
+    private final int defaultCost;
+    private final int maxCost;
+
+    PasswordHashAlgorithm(String id, int defaultCost, int maxCost) {
+        this.id = id;
+        this.defaultCost = defaultCost;
+        this.maxCost = maxCost;
+    }
+
+    /**
+     * 주어진 비용으로 해시하는 인코더를 만듭니다.
+     *
+     * @param cost 알고리즘별 비용
+     * @return 접두사 없이 해시를 만드는 인코더
+     */
+    public abstract PasswordEncoder create(int cost);
+
+    /**
+     * 측정한 비용에서 시간이 {@code ratio}배가 되는 비용을 계산합니다.
+     */
+    int scaleCost(int measuredCost, double ratio) {
+        return (int) Math.floor(measuredCost * ratio);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public int defaultCost() {
+        return defaultCost;
+    }
+
+    public int maxCost() {
+        return maxCost;
+    }
+
+    /**
+     * 설정 값({@code bcrypt}, {@code argon2}, {@code pbkdf2})으로 알고리즘을 찾습니다.
+     *
+     * @param id 알고리즘 id (대소문자 무시)
+     * @return 알고리즘
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static PasswordHashAlgorithm of(String id) {
+        return Arrays.stream(values())
+                .filter(algorithm -> algorithm.id.equalsIgnoreCase(id))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘: " + id));
+    }
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점에 실행할 작업을 등록하는 유틸리티 클래스입니다.
+ * <p>
+ * 메모리 캐시나 카운터처럼 DB 커밋 결과를 반영해야 하는 상태는 롤백 시 되돌릴 수 없으므로,
+ * 커밋이 확정된 뒤에만 갱신하도록 이 클래스를 통해 작업을 등록합니다.
+ * </p>
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업을 실행합니다.
+     * <p>
+     * 활성화된 트랜잭션이 없으면 즉시 실행합니다.
+     * </p>
+     *
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.nhnacademy.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * 요청의 실제 클라이언트 IP를 구하는 컴포넌트입니다.
+ * <p>
+ * 게이트웨이 뒤에서는 {@code getRemoteAddr()}가 항상 게이트웨이 주소이므로, 직접 연결한 주소가 신뢰하는 프록시
+ * ({@code user.client-ip.trusted-proxies})일 때만 {@code X-Forwarded-For}를 오른쪽부터 읽어
+ * 신뢰하지 않는 첫 주소를 클라이언트 IP로 사용합니다. 신뢰하지 않는 주소에서 온 요청의 헤더는 무시하므로
+ * 클라이언트가 헤더를 위조해 다른 IP로 행세할 수 없습니다.
+ * </p>
+ * <p>
+ * 설정하지 않으면 Tomcat {@code RemoteIpValve}의 내부 프록시 목록(사설·루프백·링크 로컬 대역)을 신뢰합니다.
+ * </p>
+ */
+@Component
+public class ClientIpResolver {
+
+    static final String DEFAULT_TRUSTED_PROXIES = "10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|"
+            + "192\\.168\\.\\d{1,3}\\.\\d{1,3}|"
+            + "169\\.254\\.\\d{1,3}\\.\\d{1,3}|"
+            + "127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|"
+            + "172\\.(1[6-9]|2[0-9]|3[0-1])\\.\\d{1,3}\\.\\d{1,3}|"
+            + "0:0:0:0:0:0:0:1|::1";
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final Pattern trustedProxies;
+
+    public ClientIpResolver(@Value("${user.client-ip.trusted-proxies:}") String trustedProxies) {
+        this.trustedProxies = Pattern.compile(trustedProxies.isBlank() ? DEFAULT_TRUSTED_PROXIES : trustedProxies);
+    }
+
+    /**
+     * 클라이언트 IP를 반환합니다.
+     *
+     * @param request HTTP 요청
+     * @return 신뢰하는 프록시를 건너뛴 클라이언트 IP
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String client = remoteAddr;
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        return address != null && trustedProxies.matcher(address).matches();
+    }
+}
@@ -0,0 +1,52 @@
+package com.nhnacademy.common.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * ETag 기반 조건부 GET 응답을 만드는 컴포넌트입니다.
+ * <p>
+ * 요청의 {@code If-None-Match}가 현재 ETag와 같으면 본문을 만들지 않고 304를 반환합니다.
+ * 응답에는 게이트웨이와 브라우저가 사용할 수 있도록 {@code Cache-Control: max-age=..., must-revalidate, public}을 붙입니다.
+ * </p>
+ */
+@Component
+public class ConditionalResponses {
+
+    private final CacheControl cacheControl;
+
+    public ConditionalResponses(@Value("${user.reference.http-max-age:PT30S}") Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge)
+                .mustRevalidate()
+                .cachePublic();
+    }
+
+    /**
+     * ETag가 일치하면 304, 그렇지 않으면 본문과 함께 200을 반환합니다.
+     *
+     * @param request 현재 요청
+     * @param eTag    현재 리소스의 ETag
+     * @param body    200 응답일 때만 호출되는 본문 공급자
+     * @return 조건부 GET 응답
+     */
+    public <T> ResponseEntity<T> ok(WebRequest request, String eTag, Supplier<T> body) {
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+}
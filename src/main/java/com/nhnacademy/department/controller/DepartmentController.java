@@ -1,11 +1,13 @@
 package com.nhnacademy.department.controller;
 
+import com.nhnacademy.common.web.ConditionalResponses;
 import com.nhnacademy.department.dto.DepartmentDashboardDTO;
 import com.nhnacademy.department.dto.DepartmentResponse;
 import com.nhnacademy.department.service.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,11 +15,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DepartmentController {
     private final DepartmentService departmentService;
+    private final ConditionalResponses conditionalResponses;
 
     @GetMapping("/departments/all")
-    public ResponseEntity<List<DepartmentResponse>> getAllDepartment() {
-        return ResponseEntity
-                .ok(departmentService.getAllDepartment());
+    public ResponseEntity<List<DepartmentResponse>> getAllDepartment(WebRequest request) {
+        return conditionalResponses.ok(request, departmentService.getAllDepartmentETag(), departmentService::getAllDepartment);
     }
 
     @GetMapping("/departments/{departmentId}")
@@ -6,11 +6,13 @@ import com.nhnacademy.department.dto.DepartmentResponse;
 import com.nhnacademy.department.repository.CustomDepartmentRepository;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 import java.util.List;
 import java.util.Optional;
 
+@Timed("user.repository")
 public class CustomDepartmentRepositoryImpl extends QuerydslRepositorySupport implements CustomDepartmentRepository {
     public CustomDepartmentRepositoryImpl() {
         super(Department.class);
@@ -9,6 +9,8 @@ import java.util.List;
 public interface DepartmentService {
     List<DepartmentResponse> getAllDepartment();
 
+    String getAllDepartmentETag();
+
     DepartmentResponse getDepartmentByDepartmentId(String departmentId);
 
     void createDepartment(DepartmentRequest departmentRequest);
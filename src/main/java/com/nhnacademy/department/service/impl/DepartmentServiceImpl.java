@@ -1,38 +1,51 @@
 package com.nhnacademy.department.service.impl;
 
+import com.nhnacademy.common.cache.CacheNames;
 import com.nhnacademy.common.exception.ConflictException;
 import com.nhnacademy.common.exception.NotFoundException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
 import com.nhnacademy.department.domain.Department;
 import com.nhnacademy.department.dto.DepartmentDashboardDTO;
 import com.nhnacademy.department.dto.DepartmentRequest;
 import com.nhnacademy.department.dto.DepartmentResponse;
 import com.nhnacademy.department.repository.DepartmentRepository;
 import com.nhnacademy.department.service.DepartmentService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Timed("user.service")
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
+    private final ReferenceDataRegistry referenceData;
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public List<DepartmentResponse> getAllDepartment() {
-        return departmentRepository
-                .findAllDepartment()
-                .orElse(List.of());
+        return referenceData.getDepartments();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public String getAllDepartmentETag() {
+        return referenceData.getDepartmentsETag();
     }
 
     @Transactional(readOnly = true)
     @Override
     public DepartmentResponse getDepartmentByDepartmentId(String departmentId) {
-        return departmentRepository.findDepartmentByDepartmentId(departmentId)
+        return referenceData.findDepartment(departmentId)
+                .or(() -> departmentRepository.findDepartmentByDepartmentId(departmentId))
                 .orElseThrow(() -> new NotFoundException("departmentId에 해당 하는 department는 존재하지 않습니다."));
     }
 
@@ -45,8 +58,10 @@ public class DepartmentServiceImpl implements DepartmentService {
         Department department = new Department(departmentRequest.getDepartmentId(), departmentRequest.getDepartmentName(), null, null);
 
         departmentRepository.save(department);
+        referenceData.departmentsChanged();
     }
 
+    @CacheEvict(cacheNames = CacheNames.USER_RESPONSE, allEntries = true)
     @Override
     public void updateDepartment(DepartmentRequest departmentRequest) {
         Department department = departmentRepository.findById(departmentRequest.getDepartmentId())
@@ -55,8 +70,13 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.updateDepartmentName(departmentRequest.getDepartmentName());
 
         departmentRepository.save(department);
+        referenceData.departmentsChanged();
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USER_RESPONSE, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENT_RECIPIENTS, allEntries = true)
+    })
     @Override
     public void deleteDepartment(String departmentId) {
         if (!departmentRepository.existsById(departmentId)) {
@@ -64,6 +84,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         }
 
         departmentRepository.deleteById(departmentId);
+        referenceData.departmentsChanged();
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.nhnacademy.eventlevel.controller;
 
+import com.nhnacademy.common.web.ConditionalResponses;
 import com.nhnacademy.eventlevel.dto.EventLevelResponse;
 import com.nhnacademy.eventlevel.service.EventLevelService;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,11 +18,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventLevelController {
     private final EventLevelService eventLevelService;
+    private final ConditionalResponses conditionalResponses;
 
     @GetMapping
-    public ResponseEntity<List<EventLevelResponse>> getAllEventLevel() {
-        return ResponseEntity
-                .ok(eventLevelService.getAllEventLevel());
+    public ResponseEntity<List<EventLevelResponse>> getAllEventLevel(WebRequest request) {
+        return conditionalResponses.ok(request, eventLevelService.getAllEventLevelETag(), eventLevelService::getAllEventLevel);
     }
 
     @GetMapping("/{levelName}")
@@ -6,11 +6,13 @@ import com.nhnacademy.eventlevel.dto.EventLevelResponse;
 import com.nhnacademy.eventlevel.repository.CustomEventLevelRepository;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 import java.util.List;
 import java.util.Optional;
 
+@Timed("user.repository")
 public class CustomEventLevelRepositoryImpl extends QuerydslRepositorySupport implements CustomEventLevelRepository {
     public CustomEventLevelRepositoryImpl() {
         super(EventLevel.class);
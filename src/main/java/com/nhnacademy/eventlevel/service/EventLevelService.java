@@ -10,6 +10,8 @@ public interface EventLevelService {
 
     List<EventLevelResponse> getAllEventLevel();
 
+    String getAllEventLevelETag();
+
     void createEventLevel(EventLevelRequest eventLevelRequest);
 
     void updateEventLevel(EventLevelRequest eventLevelRequest);
@@ -1,18 +1,25 @@
 package com.nhnacademy.eventlevel.service.impl;
 
+import com.nhnacademy.common.cache.CacheNames;
 import com.nhnacademy.common.exception.ConflictException;
 import com.nhnacademy.common.exception.NotFoundException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
 import com.nhnacademy.eventlevel.domain.EventLevel;
 import com.nhnacademy.eventlevel.dto.EventLevelRequest;
 import com.nhnacademy.eventlevel.dto.EventLevelResponse;
 import com.nhnacademy.eventlevel.repository.EventLevelRepository;
 import com.nhnacademy.eventlevel.service.EventLevelService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Timed("user.service")
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -21,19 +28,25 @@ public class EventLevelServiceImpl implements EventLevelService {
     private static final String EVENT_LEVEL_ALREADY_EXISTS = "이미 존재하는 eventLevel";
 
     private final EventLevelRepository eventLevelRepository;
+    private final ReferenceDataRegistry referenceData;
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public List<EventLevelResponse> getAllEventLevel() {
-        return eventLevelRepository
-                .findAllEventLevel()
-                .orElse(List.of());
+        return referenceData.getEventLevels();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public String getAllEventLevelETag() {
+        return referenceData.getEventLevelsETag();
     }
 
     @Transactional(readOnly = true)
     @Override
     public EventLevelResponse getEventLevelByLevelName(String levelName) {
-        return eventLevelRepository.findEventLevelByLevelName(levelName)
+        return referenceData.findEventLevel(levelName)
+                .or(() -> eventLevelRepository.findEventLevelByLevelName(levelName))
                 .orElseThrow(() -> new NotFoundException(EVENT_LEVEL_NOT_FOUND));
     }
 
@@ -49,8 +62,13 @@ public class EventLevelServiceImpl implements EventLevelService {
                 eventLevelRequest.getPriority()
         );
         eventLevelRepository.save(eventLevel);
+        referenceData.eventLevelsChanged();
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USER_RESPONSE, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENT_RECIPIENTS, allEntries = true)
+    })
     @Override
     public void updateEventLevel(EventLevelRequest eventLevelRequest) {
         EventLevel eventLevel = eventLevelRepository.findById(eventLevelRequest.getEventLevelName())
@@ -58,8 +76,13 @@ public class EventLevelServiceImpl implements EventLevelService {
 
         eventLevel.updateEventLevel(eventLevelRequest.getEventLevelDetails(), eventLevelRequest.getPriority());
         eventLevelRepository.save(eventLevel);
+        referenceData.eventLevelsChanged();
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USER_RESPONSE, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENT_RECIPIENTS, allEntries = true)
+    })
     @Override
     public void deleteEventLevel(String levelName) {
         if (!eventLevelRepository.existsById(levelName)) {
@@ -67,5 +90,6 @@ public class EventLevelServiceImpl implements EventLevelService {
         }
 
         eventLevelRepository.deleteById(levelName);
+        referenceData.eventLevelsChanged();
     }
 }
@@ -7,6 +7,7 @@ import com.nhnacademy.image.repository.ImageRepository;
 import com.nhnacademy.image.service.ImageService;
 import com.nhnacademy.user.domain.User;
 import com.nhnacademy.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,7 @@ import java.util.Objects;
 /**
  * 이미지 관련 비즈니스 로직을 처리하는 서비스 구현 클래스입니다.
  */
+@Timed("user.service")
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -34,7 +36,7 @@ public class ImageServiceImpl implements ImageService {
     @Transactional(readOnly = true)
     @Override
     public ImageResponse getImage(String userEmail) {
-        User user = userRepository.findByUserEmailAndWithdrawalAtIsNull(userEmail)
+        User user = userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(userEmail)
                 .orElseThrow(() -> new NotFoundException("해당 userEmail에 해당하는 유저를 찾을 수 없습니다."));
 
         Image profileImage = user.getProfileImage();
@@ -50,7 +52,7 @@ public class ImageServiceImpl implements ImageService {
      */
     @Override
     public void deleteImage(String userEmail) {
-        User user = userRepository.findByUserEmailAndWithdrawalAtIsNull(userEmail)
+        User user = userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(userEmail)
                 .orElseThrow(() -> new NotFoundException("해당 userEmail에 해당하는 유저를 찾을 수 없습니다."));
 
         Image profileImage = user.getProfileImage();
@@ -90,7 +92,7 @@ public class ImageServiceImpl implements ImageService {
      */
     @Override
     public void updateImage(String userEmail, String imagePath) {
-        User user = userRepository.findByUserEmailAndWithdrawalAtIsNull(userEmail)
+        User user = userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(userEmail)
                 .orElseThrow(() -> new NotFoundException("해당 userEmail에 해당하는 유저를 찾을 수 없습니다."));
 
         Image currentImage = user.getProfileImage();
@@ -1,5 +1,6 @@
 package com.nhnacademy.role.controller;
 
+import com.nhnacademy.common.web.ConditionalResponses;
 import com.nhnacademy.role.dto.RoleResponse;
 import com.nhnacademy.role.service.RoleService;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,12 +18,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RoleController {
     private final RoleService roleService;
+    private final ConditionalResponses conditionalResponses;
 
     @GetMapping
-    public ResponseEntity<List<RoleResponse>> getAllRole() {
+    public ResponseEntity<List<RoleResponse>> getAllRole(WebRequest request) {
 
-        return ResponseEntity
-                .ok(roleService.getAllRole());
+        return conditionalResponses.ok(request, roleService.getAllRoleETag(), roleService::getAllRole);
     }
 
     @GetMapping("/{roleId}")
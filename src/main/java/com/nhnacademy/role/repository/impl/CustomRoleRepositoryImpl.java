@@ -6,11 +6,13 @@ import com.nhnacademy.role.dto.RoleResponse;
 import com.nhnacademy.role.repository.CustomRoleRepository;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 import java.util.List;
 import java.util.Optional;
 
+@Timed("user.repository")
 public class CustomRoleRepositoryImpl extends QuerydslRepositorySupport implements CustomRoleRepository {
 
     public CustomRoleRepositoryImpl() {
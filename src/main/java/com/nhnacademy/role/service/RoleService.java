@@ -8,6 +8,8 @@ import java.util.List;
 public interface RoleService {
     List<RoleResponse> getAllRole();
 
+    String getAllRoleETag();
+
     RoleResponse getRoleByRoleId(String roleId);
 
     void createRole(RoleRequest roleRequest);
@@ -2,34 +2,45 @@ package com.nhnacademy.role.service.impl;
 
 import com.nhnacademy.common.exception.ConflictException;
 import com.nhnacademy.common.exception.NotFoundException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
 import com.nhnacademy.role.domain.Role;
 import com.nhnacademy.role.dto.RoleRequest;
 import com.nhnacademy.role.dto.RoleResponse;
 import com.nhnacademy.role.repository.RoleRepository;
 import com.nhnacademy.role.service.RoleService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Timed("user.service")
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class RoleServiceImpl implements RoleService {
     private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceData;
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public List<RoleResponse> getAllRole() {
-        return roleRepository.findAllRole()
-                .orElse(List.of());
+        return referenceData.getRoles();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public String getAllRoleETag() {
+        return referenceData.getRolesETag();
     }
 
     @Transactional(readOnly = true)
     @Override
     public RoleResponse getRoleByRoleId(String roleId) {
-        return roleRepository.findRoleByRoleId(roleId)
+        return referenceData.findRole(roleId)
+                .or(() -> roleRepository.findRoleByRoleId(roleId))
                 .orElseThrow(() -> new NotFoundException("RoleId에 해당하는 Role은 존재하지 않습니다."));
     }
 
@@ -42,6 +53,7 @@ public class RoleServiceImpl implements RoleService {
         Role role = new Role(roleRequest.getRoleId(), roleRequest.getRoleName());
 
         roleRepository.save(role);
+        referenceData.rolesChanged();
     }
 
     @Override
@@ -52,6 +64,7 @@ public class RoleServiceImpl implements RoleService {
         role.updateRoleName(roleRequest.getRoleName());
 
         roleRepository.save(role);
+        referenceData.rolesChanged();
     }
 
     @Override
@@ -61,5 +74,6 @@ public class RoleServiceImpl implements RoleService {
         }
 
         roleRepository.deleteById(roleId);
+        referenceData.rolesChanged();
     }
 }
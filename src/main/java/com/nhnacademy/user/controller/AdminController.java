@@ -6,20 +6,38 @@ import com.nhnacademy.eventlevel.dto.EventLevelRequest;
 import com.nhnacademy.eventlevel.service.EventLevelService;
 import com.nhnacademy.role.dto.RoleRequest;
 import com.nhnacademy.role.service.RoleService;
+import com.nhnacademy.user.dto.UserBatchByEmailRequest;
+import com.nhnacademy.user.dto.UserBatchByNoRequest;
+import com.nhnacademy.user.dto.UserBatchResponse;
+import com.nhnacademy.user.dto.UserCursorResponse;
+import com.nhnacademy.user.dto.UserFileFormat;
+import com.nhnacademy.user.dto.UserImportResponse;
+import com.nhnacademy.user.dto.UserRecipientResponse;
 import com.nhnacademy.user.dto.UserResponse;
 import com.nhnacademy.user.dto.UserRoleUpdateRequest;
+import com.nhnacademy.user.service.UserExportService;
+import com.nhnacademy.user.service.UserImportService;
 import com.nhnacademy.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -30,10 +48,14 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class AdminController {
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final UserService userService;
     private final EventLevelService eventLevelService;
     private final DepartmentService departmentService;
     private final RoleService roleService;
+    private final UserExportService userExportService;
+    private final UserImportService userImportService;
 
     /**
      * 모든 사용자 정보를 조회합니다.
@@ -46,12 +68,155 @@ public class AdminController {
                 .ok(userService.getAllUser(pageable));
     }
 
+    /**
+     * 커서(keyset) 방식으로 사용자 목록을 조회합니다.
+     * <p>
+     * 전체 건수를 계산하지 않으며, 응답의 nextCursor를 다음 요청의 after 파라미터로 전달합니다.
+     * </p>
+     *
+     * @param after 이전 응답의 nextCursor, 첫 페이지라면 생략
+     * @param size  페이지 크기
+     * @return 사용자 목록과 다음 커서
+     */
+    @GetMapping("/users/cursor")
+    public ResponseEntity<UserCursorResponse> getUsersByCursor(@RequestParam(required = false) String after,
+                                                               @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity
+                .ok(userService.getUsersByCursor(after, size));
+    }
+
+    /**
+     * 전체 건수 없이 사용자 목록과 다음 페이지 존재 여부만 조회합니다.
+     * <p>
+     * {@code /admin/users/all?slice=true}로 요청하며, count 쿼리를 실행하지 않습니다.
+     * </p>
+     *
+     * @return 사용자 목록 Slice
+     */
+    @GetMapping(value = "/users/all", params = "slice=true")
+    public ResponseEntity<Slice<UserResponse>> getUserSlice(@PageableDefault(size = 10, sort = "eventAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity
+                .ok(userService.getUserSlice(pageable));
+    }
+
+    /**
+     * 부서별 사용자 목록을 조회합니다.
+     * <p>
+     * 부서의 전체 활성 사용자 수는 {@code X-Total-Count} 헤더로 함께 반환합니다.
+     * </p>
+     *
+     * @param departmentId 부서 ID
+     * @return 부서 사용자 목록
+     */
     @GetMapping("/users/departments/{departmentId}")
     public ResponseEntity<List<UserResponse>> findUsersByDepartmentId(
             @PathVariable String departmentId,
             @PageableDefault(size = 10, sort = "eventAt", direction = Sort.Direction.DESC) Pageable pageable) {
         return ResponseEntity
-                .ok(userService.getUsersByDepartmentId(departmentId, pageable));
+                .ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(userService.countUsersByDepartmentId(departmentId)))
+                .body(userService.getUsersByDepartmentId(departmentId, pageable));
+    }
+
+    /**
+     * 부서의 알림 수신자 목록을 조회합니다.
+     * <p>
+     * 탈퇴하지 않았고 이벤트 레벨 우선순위가 {@code maxPriority} 이하인 사용자의 번호, 이메일, 연락처만 반환합니다.
+     * </p>
+     *
+     * @param departmentId 부서 ID
+     * @param maxPriority  이벤트 레벨 우선순위 상한, 생략하면 모든 레벨
+     * @return 수신자 목록
+     */
+    @GetMapping("/users/departments/{departmentId}/recipients")
+    public ResponseEntity<List<UserRecipientResponse>> getDepartmentRecipients(
+            @PathVariable String departmentId,
+            @RequestParam(required = false) Integer maxPriority) {
+        return ResponseEntity
+                .ok(userService.getDepartmentRecipients(departmentId, maxPriority));
+    }
+
+    /**
+     * 탈퇴하지 않은 전체 사용자를 NDJSON 또는 CSV 파일로 내보냅니다.
+     * <p>
+     * {@code /admin/users/all}을 페이지마다 반복 호출하는 대신 한 번의 요청으로 전체 목록을 스트리밍합니다.
+     * 응답은 비동기 스레드에서 작성되며, 클라이언트가 연결을 끊으면 조회도 중단됩니다.
+     * </p>
+     *
+     * @param format 내보내기 형식 (ndjson, csv)
+     * @return 사용자 목록 스트림
+     */
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        UserFileFormat exportFormat = UserFileFormat.from(format);
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users-" + LocalDate.now() + "." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(outputStream -> {
+                    try {
+                        userExportService.exportUsers(exportFormat, outputStream);
+                    } catch (IOException e) {
+                        // 응답이 이미 시작된 뒤 클라이언트가 연결을 끊은 경우로, 오류 응답을 보낼 곳이 없으므로 그대로 종료합니다.
+                        log.debug("사용자 내보내기 연결 종료: {}", e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * CSV 또는 NDJSON 파일로 여러 사용자를 한 번에 등록합니다.
+     * <p>
+     * CSV는 첫 줄에 {@code userName,userEmail,userPassword,userPhone,userDepartment} 헤더가 있어야 하고,
+     * NDJSON은 한 줄에 회원가입 요청 JSON 하나를 씁니다. 형식을 생략하면 파일 확장자로 판단합니다.
+     * 일부 행이 실패해도 나머지 행은 등록되며, 응답에 행별 결과가 담깁니다.
+     * </p>
+     *
+     * @param file   업로드 파일
+     * @param format 파일 형식 (csv, ndjson)
+     * @return 행별 등록 결과
+     */
+    @PostMapping(value = "/users/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserImportResponse> importUsers(@RequestParam("file") MultipartFile file,
+                                                          @RequestParam(required = false) String format) throws IOException {
+        UserFileFormat importFormat = format == null
+                ? UserFileFormat.fromFileName(file.getOriginalFilename())
+                : UserFileFormat.from(format);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity
+                    .ok(userImportService.importUsers(importFormat, inputStream));
+        }
+    }
+
+    /**
+     * 이메일 목록으로 사용자를 일괄 조회합니다.
+     * <p>
+     * 알림처럼 여러 사용자를 한꺼번에 찾아야 하는 서비스에서 사용하며, 한 번에 최대 500명까지 조회할 수 있습니다.
+     * </p>
+     *
+     * @param request 조회할 이메일 목록
+     * @return 요청 순서대로 정렬된 사용자 목록과 찾지 못한 이메일
+     */
+    @PostMapping("/users/batch/by-email")
+    public ResponseEntity<UserBatchResponse<String>> getUsersByEmails(@Validated @RequestBody UserBatchByEmailRequest request) {
+        return ResponseEntity
+                .ok(userService.getUsersByEmails(request.getUserEmails()));
+    }
+
+    /**
+     * 사용자 번호 목록으로 사용자를 일괄 조회합니다.
+     *
+     * @param request 조회할 사용자 번호 목록
+     * @return 요청 순서대로 정렬된 사용자 목록과 찾지 못한 사용자 번호
+     */
+    @PostMapping("/users/batch/by-no")
+    public ResponseEntity<UserBatchResponse<Long>> getUsersByUserNos(@Validated @RequestBody UserBatchByNoRequest request) {
+        return ResponseEntity
+                .ok(userService.getUsersByUserNos(request.getUserNos()));
     }
 
     /**
@@ -1,9 +1,12 @@
 package com.nhnacademy.user.controller;
 
-import com.common.AESUtil;
 import com.nhnacademy.common.exception.BadRequestException;
+import com.nhnacademy.common.resolver.UserEmail;
+import com.nhnacademy.common.web.ClientIpResolver;
 import com.nhnacademy.user.dto.*;
+import com.nhnacademy.user.login.LoginAttemptLimiter;
 import com.nhnacademy.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -16,8 +19,9 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 @Slf4j
 public class UserController {
-    private final AESUtil aesUtil;
     private final UserService userService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * 회원가입 요청을 처리합니다.
@@ -57,12 +61,20 @@ public class UserController {
 
     /**
      * 로그인 요청을 처리합니다.
+     * <p>
+     * 이메일/클라이언트 IP별 시도 횟수를 먼저 확인하고, 한도를 넘으면 사용자 조회 없이 429로 응답합니다.
+     * 클라이언트 IP는 {@link ClientIpResolver}가 신뢰하는 게이트웨이의 {@code X-Forwarded-For}에서 구하므로,
+     * 게이트웨이를 거친 요청이 모두 게이트웨이 IP 하나로 묶이지 않습니다.
+     * </p>
      *
      * @param userLoginRequest 사용자 로그인 정보 (이메일, 비밀번호 등)
+     * @param request          클라이언트 IP 확인용 요청
      * @return 200 OK 응답
      */
     @PostMapping("/auth/signIn")
-    public ResponseEntity<Void> signIn(@Validated @RequestBody UserLoginRequest userLoginRequest) {
+    public ResponseEntity<Void> signIn(@Validated @RequestBody UserLoginRequest userLoginRequest,
+                                       HttpServletRequest request) {
+        loginAttemptLimiter.check(userLoginRequest.getUserEmail(), clientIpResolver.resolve(request));
         userService.loginUser(userLoginRequest);
 
         return ResponseEntity
@@ -78,13 +90,11 @@ public class UserController {
     /**
      * 자신의 사용자 정보를 조회합니다.
      *
-     * @param encryptedEmail AES로 암호화된 이메일
+     * @param email X-User-Id 헤더를 복호화한 이메일
      * @return 현재 사용자 정보 (이메일, 이름 등)
      */
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getMyInfo(@RequestHeader("X-User-Id") String encryptedEmail) {
-        String email = aesUtil.decrypt(encryptedEmail);
-
+    public ResponseEntity<UserResponse> getMyInfo(@UserEmail String email) {
         return ResponseEntity
                 .ok(userService.getUser(email));
     }
@@ -92,14 +102,14 @@ public class UserController {
     /**
      * 자신의 사용자 정보를 수정합니다.
      *
-     * @param encryptedEmail    AES로 암호화된 이메일
+     * @param email             X-User-Id 헤더를 복호화한 이메일
      * @param userUpdateRequest 사용자 수정 정보 (이름, 주소 등)
      * @return 204 No Content 응답
      */
     @PutMapping("/me")
-    public ResponseEntity<Void> updateMyInfo(@RequestHeader("X-User-Id") String encryptedEmail,
+    public ResponseEntity<Void> updateMyInfo(@UserEmail String email,
                                              @Validated @RequestBody UserUpdateRequest userUpdateRequest) {
-        userService.updateUser(aesUtil.decrypt(encryptedEmail), userUpdateRequest);
+        userService.updateUser(email, userUpdateRequest);
 
         return ResponseEntity
                 .noContent()
@@ -109,18 +119,18 @@ public class UserController {
     /**
      * 비밀번호를 변경합니다.
      *
-     * @param encryptedEmail        AES로 암호화된 이메일
+     * @param email                 X-User-Id 헤더를 복호화한 이메일
      * @param changePasswordRequest 비밀번호 변경 요청 정보 (현재 비밀번호, 새 비밀번호)
      * @return 204 No Content 응답
      */
     @PutMapping("/me/password")
-    public ResponseEntity<Void> changePassword(@RequestHeader("X-User-Id") String encryptedEmail,
+    public ResponseEntity<Void> changePassword(@UserEmail String email,
                                                @Validated @RequestBody ChangePasswordRequest changePasswordRequest) {
         if (!changePasswordRequest.isPasswordConfirmed()) {
             throw new BadRequestException("확인 패스워드 불일치");
         }
 
-        userService.changePassword(aesUtil.decrypt(encryptedEmail), changePasswordRequest);
+        userService.changePassword(email, changePasswordRequest);
 
         return ResponseEntity
                 .noContent()
@@ -130,12 +140,12 @@ public class UserController {
     /**
      * 자신의 계정을 삭제합니다.
      *
-     * @param encryptedEmail AES로 암호화된 이메일
+     * @param email X-User-Id 헤더를 복호화한 이메일
      * @return 204 No Content 응답
      */
     @DeleteMapping("/me")
-    public ResponseEntity<Void> deleteMyAccount(@RequestHeader("X-User-Id") String encryptedEmail) {
-        userService.deleteUser(aesUtil.decrypt(encryptedEmail));
+    public ResponseEntity<Void> deleteMyAccount(@UserEmail String email) {
+        userService.deleteUser(email);
 
         return ResponseEntity
                 .noContent()
@@ -0,0 +1,127 @@
+package com.nhnacademy.user.counter;
+
+import com.nhnacademy.common.transaction.TransactionCallbacks;
+import com.nhnacademy.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탈퇴하지 않은 사용자 수를 부서별/전체로 메모리에 유지하는 카운터입니다.
+ * <p>
+ * 목록 조회마다 {@code withdrawal_at IS NULL} 조건의 count 쿼리를 실행하지 않도록,
+ * 가입·탈퇴·부서 이동 시 트랜잭션 커밋 후에 값을 갱신합니다.
+ * 다른 인스턴스에서 발생한 변경이나 누락된 갱신은 주기적인 재집계(reconcile)로 보정합니다.
+ * </p>
+ * <p>
+ * 애플리케이션 기동 후 첫 재집계가 끝나기 전에는 값을 제공하지 않으므로, 호출 측은 DB count로 대체해야 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveUserCounter {
+    private final UserRepository userRepository;
+
+    private final Map<String, AtomicLong> departmentCounts = new ConcurrentHashMap<>();
+    private final AtomicLong totalCount = new AtomicLong();
+    private volatile boolean ready = false;
+
+    /**
+     * 전체 활성 사용자 수를 반환합니다.
+     *
+     * @return 활성 사용자 수, 아직 집계되지 않았다면 빈 값
+     */
+    public OptionalLong getTotal() {
+        return ready ? OptionalLong.of(totalCount.get()) : OptionalLong.empty();
+    }
+
+    /**
+     * 부서별 활성 사용자 수를 반환합니다.
+     *
+     * @param departmentId 부서 ID
+     * @return 부서의 활성 사용자 수, 아직 집계되지 않았다면 빈 값
+     */
+    public OptionalLong getDepartmentCount(String departmentId) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+
+        AtomicLong count = departmentCounts.get(departmentId);
+        return OptionalLong.of(count == null ? 0L : count.get());
+    }
+
+    /**
+     * 사용자가 가입했을 때 커밋 후 카운터를 증가시킵니다.
+     *
+     * @param departmentId 가입한 사용자의 부서 ID
+     */
+    public void userJoined(String departmentId) {
+        TransactionCallbacks.afterCommit(() -> add(departmentId, 1));
+    }
+
+    /**
+     * 사용자가 탈퇴했을 때 커밋 후 카운터를 감소시킵니다.
+     *
+     * @param departmentId 탈퇴한 사용자의 부서 ID
+     */
+    public void userWithdrew(String departmentId) {
+        TransactionCallbacks.afterCommit(() -> add(departmentId, -1));
+    }
+
+    /**
+     * 사용자의 부서가 변경되었을 때 커밋 후 부서별 카운터를 옮깁니다.
+     *
+     * @param fromDepartmentId 이전 부서 ID
+     * @param toDepartmentId   변경된 부서 ID
+     */
+    public void userMoved(String fromDepartmentId, String toDepartmentId) {
+        if (Objects.equals(fromDepartmentId, toDepartmentId)) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            departmentCounter(fromDepartmentId).decrementAndGet();
+            departmentCounter(toDepartmentId).incrementAndGet();
+        });
+    }
+
+    /**
+     * DB 기준으로 카운터를 다시 집계합니다.
+     * <p>
+     * 기동 완료 시와 {@code user.counter.reconcile-interval} 주기마다 실행됩니다.
+     * 집계 중에 반영된 증감은 다음 재집계에서 보정됩니다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.counter.reconcile-interval:PT10M}",
+            initialDelayString = "${user.counter.reconcile-interval:PT10M}")
+    public void reconcile() {
+        Map<String, Long> counts = userRepository.countActiveUsersGroupByDepartment();
+
+        departmentCounts.keySet().retainAll(counts.keySet());
+        counts.forEach((departmentId, count) -> departmentCounter(departmentId).set(count));
+        totalCount.set(counts.values().stream().mapToLong(Long::longValue).sum());
+        ready = true;
+
+        log.debug("활성 사용자 수 재집계 완료: 전체 {}명, 부서 {}개", totalCount.get(), counts.size());
+    }
+
+    private void add(String departmentId, long delta) {
+        departmentCounter(departmentId).addAndGet(delta);
+        totalCount.addAndGet(delta);
+    }
+
+    private AtomicLong departmentCounter(String departmentId) {
+        return departmentCounts.computeIfAbsent(departmentId, key -> new AtomicLong());
+    }
+}
@@ -14,12 +14,25 @@ import org.hibernate.annotations.Comment;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 부서별 알림 수신자 조회: department_id, withdrawal_at 조건과 level_name 조인을 인덱스만으로 처리
+        @Index(name = "idx_users_department_withdrawal_level", columnList = "department_id, withdrawal_at, level_name")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class User {
 
+    /**
+     * 신규 가입자에게 부여하는 기본 권한 ID
+     */
+    public static final String DEFAULT_ROLE_ID = "ROLE_MEMBER";
+
+    /**
+     * 신규 가입자에게 부여하는 기본 이벤트 레벨 이름
+     */
+    public static final String DEFAULT_EVENT_LEVEL_NAME = "INFO";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_no")
@@ -83,32 +96,23 @@ public class User {
         this.eventLevel = eventLevel;
     }
 
-    public static User ofNewMember(String userName, String userEmail, String userPassword,
-                                   String userPhone, Department department) {
-        return new User(
-                userName,
-                userEmail,
-                userPassword,
-                userPhone,
-                false,
-                department,
-                new Role("ROLE_MEMBER", "멤버"),
-                new EventLevel("INFO", "일반 정보", 1)
-        );
+    /**
+     * 일반 회원가입 사용자를 생성합니다.
+     * <p>
+     * 권한, 이벤트 레벨, 부서는 {@code getReferenceById}로 얻은 프록시를 넘기면 저장 시 추가 조회가 발생하지 않습니다.
+     * </p>
+     */
+    public static User ofNewMember(String userName, String userEmail, String userPassword, String userPhone,
+                                   Department department, Role role, EventLevel eventLevel) {
+        return new User(userName, userEmail, userPassword, userPhone, false, department, role, eventLevel);
     }
 
-    public static User ofNewSocialMember(String userName, String userEmail, String userPassword,
-                                         String userPhone, Department department) {
-        return new User(
-                userName,
-                userEmail,
-                userPassword,
-                userPhone,
-                true,
-                department,
-                new Role("ROLE_MEMBER", "멤버"),
-                new EventLevel("INFO", "일반 정보", 1)
-        );
+    /**
+     * 소셜 회원가입 사용자를 생성합니다.
+     */
+    public static User ofNewSocialMember(String userName, String userEmail, String userPassword, String userPhone,
+                                         Department department, Role role, EventLevel eventLevel) {
+        return new User(userName, userEmail, userPassword, userPhone, true, department, role, eventLevel);
     }
 
     // 비밀번호 변경 메서드
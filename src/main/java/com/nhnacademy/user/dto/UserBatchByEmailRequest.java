@@ -0,0 +1,27 @@
+package com.nhnacademy.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 이메일 목록으로 사용자를 일괄 조회하는 요청 DTO입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class UserBatchByEmailRequest {
+    public static final int MAX_SIZE = 500;
+
+    @JsonProperty("userEmails")
+    @NotEmpty(message = "userEmails는 필수 입력 항목입니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 500명까지 조회할 수 있습니다.")
+    private List<@NotBlank String> userEmails;
+}
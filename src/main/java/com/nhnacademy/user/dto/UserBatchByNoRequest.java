@@ -0,0 +1,26 @@
+package com.nhnacademy.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 번호 목록으로 사용자를 일괄 조회하는 요청 DTO입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class UserBatchByNoRequest {
+
+    @JsonProperty("userNos")
+    @NotEmpty(message = "userNos는 필수 입력 항목입니다.")
+    @Size(max = UserBatchByEmailRequest.MAX_SIZE, message = "한 번에 최대 500명까지 조회할 수 있습니다.")
+    private List<@NotNull Long> userNos;
+}
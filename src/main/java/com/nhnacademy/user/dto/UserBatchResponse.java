@@ -0,0 +1,26 @@
+package com.nhnacademy.user.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 조회 응답 DTO입니다.
+ * <p>
+ * {@code users}는 요청한 순서대로 정렬되며 중복 요청은 한 번만 포함됩니다.
+ * 존재하지 않거나 탈퇴한 사용자의 키는 {@code missing}에 요청 순서대로 담깁니다.
+ * </p>
+ *
+ * @param <K> 조회 키 타입 (이메일 또는 사용자 번호)
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class UserBatchResponse<K> {
+    private List<UserResponse> users;
+
+    private List<K> missing;
+}
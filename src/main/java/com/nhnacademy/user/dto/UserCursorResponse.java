@@ -0,0 +1,26 @@
+package com.nhnacademy.user.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 사용자 목록 조회 응답 DTO입니다.
+ * <p>
+ * {@code nextCursor}는 다음 페이지 요청 시 {@code after} 파라미터로 그대로 전달하는 불투명한 값이며,
+ * 마지막 페이지라면 null입니다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class UserCursorResponse {
+    private List<UserResponse> content;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+}
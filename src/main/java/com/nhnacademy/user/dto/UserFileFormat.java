@@ -0,0 +1,50 @@
+package com.nhnacademy.user.dto;
+
+import com.nhnacademy.common.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 내보내기/일괄 등록 파일 형식입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+
+    private final String extension;
+
+    /**
+     * 요청 파라미터 값으로 파일 형식을 찾습니다.
+     *
+     * @param value 형식 이름 (대소문자 무시)
+     * @return 파일 형식
+     * @throws BadRequestException 지원하지 않는 형식인 경우
+     */
+    public static UserFileFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 파일 형식입니다: " + value));
+    }
+
+    /**
+     * 파일 이름의 확장자로 파일 형식을 찾습니다.
+     *
+     * @param fileName 업로드된 파일 이름
+     * @return 파일 형식
+     * @throws BadRequestException 확장자가 없거나 지원하지 않는 형식인 경우
+     */
+    public static UserFileFormat fromFileName(String fileName) {
+        int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+        if (dot < 0) {
+            throw new BadRequestException("파일 형식을 알 수 없습니다. format 파라미터를 지정해주세요.");
+        }
+        return from(fileName.substring(dot + 1));
+    }
+}
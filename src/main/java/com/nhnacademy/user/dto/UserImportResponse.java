@@ -0,0 +1,27 @@
+package com.nhnacademy.user.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과 DTO입니다.
+ * <p>
+ * {@code results}는 파일의 행 순서대로 각 행의 등록 여부와 실패 사유를 담습니다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class UserImportResponse {
+    private int total;
+
+    private int created;
+
+    private int failed;
+
+    private List<UserImportRowResult> results;
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.user.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 등록 파일의 한 행에 대한 처리 결과 DTO입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class UserImportRowResult {
+
+    /**
+     * 행 처리 결과 상태입니다.
+     */
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE_EMAIL,
+        DEPARTMENT_NOT_FOUND
+    }
+
+    /**
+     * 파일 기준 줄 번호 (CSV 헤더는 1번 줄)
+     */
+    private int line;
+
+    private String userEmail;
+
+    private Status status;
+
+    private String message;
+}
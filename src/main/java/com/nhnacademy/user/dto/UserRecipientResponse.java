@@ -0,0 +1,28 @@
+package com.nhnacademy.user.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 발송 대상 사용자 정보 DTO입니다.
+ * <p>
+ * 알림 라우팅에 필요한 사용자 번호, 이메일, 연락처만 담습니다.
+ * </p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserRecipientResponse {
+
+    private Long userNo;
+
+    private String userEmail;
+
+    private String userPhone;
+
+    public UserRecipientResponse(Long userNo, String userEmail, String userPhone) {
+        this.userNo = userNo;
+        this.userEmail = userEmail;
+        this.userPhone = userPhone;
+    }
+}
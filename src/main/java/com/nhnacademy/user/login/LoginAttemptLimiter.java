@@ -0,0 +1,106 @@
+package com.nhnacademy.user.login;
+
+import com.nhnacademy.common.exception.TooManyRequestsException;
+import com.nhnacademy.common.ratelimit.InMemoryRateLimitStore;
+import com.nhnacademy.common.ratelimit.RateLimitStore;
+import com.nhnacademy.common.ratelimit.SlidingWindowRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 시도를 이메일별, 클라이언트 IP별로 제한합니다.
+ * <p>
+ * 로그인은 사용자 조회와 비밀번호 해시 검증을 모두 수행하므로, 크리덴셜 스터핑 같은 반복 시도가
+ * DB 커넥션과 해시 풀을 소모하지 않도록 서비스 호출 전에 확인합니다.
+ * 한도를 넘으면 {@link TooManyRequestsException}(429, {@code Retry-After})으로 거절하고
+ * {@code user.login.throttled} 카운터를 제한 기준({@code scope=email|ip})별로 증가시킵니다.
+ * </p>
+ * <p>
+ * 카운터는 기본적으로 인스턴스 메모리에 있으므로 인스턴스가 여러 개면 한도도 인스턴스 수만큼 늘어납니다.
+ * 공유해야 하면 {@link RateLimitStore} 빈을 등록합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LoginAttemptLimiter {
+
+    private static final String THROTTLED_MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final boolean enabled;
+    private final SlidingWindowRateLimiter emailLimiter;
+    private final SlidingWindowRateLimiter ipLimiter;
+    private final Counter emailThrottled;
+    private final Counter ipThrottled;
+
+    public LoginAttemptLimiter(ObjectProvider<RateLimitStore> rateLimitStore,
+                               ObjectProvider<MeterRegistry> meterRegistry,
+                               @Value("${user.login-throttle.enabled:true}") boolean enabled,
+                               @Value("${user.login-throttle.email.limit:10}") long emailLimit,
+                               @Value("${user.login-throttle.email.window:PT5M}") Duration emailWindow,
+                               @Value("${user.login-throttle.ip.limit:100}") long ipLimit,
+                               @Value("${user.login-throttle.ip.window:PT1M}") Duration ipWindow,
+                               @Value("${user.login-throttle.max-keys:100000}") long maxKeys) {
+        this.enabled = enabled;
+
+        RateLimitStore sharedStore = rateLimitStore.getIfAvailable();
+        Clock clock = Clock.systemUTC();
+        this.emailLimiter = new SlidingWindowRateLimiter(
+                sharedStore != null ? sharedStore : new InMemoryRateLimitStore(maxKeys, emailWindow),
+                emailLimit, emailWindow, clock);
+        this.ipLimiter = new SlidingWindowRateLimiter(
+                sharedStore != null ? sharedStore : new InMemoryRateLimitStore(maxKeys, ipWindow),
+                ipLimit, ipWindow, clock);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.emailThrottled = throttledCounter(registry, "email");
+        this.ipThrottled = throttledCounter(registry, "ip");
+    }
+
+    /**
+     * 로그인 시도를 기록하고 한도를 넘었으면 거절합니다.
+     * <p>
+     * IP를 먼저 확인해, 여러 이메일을 돌려 가며 시도하는 경우 이메일 카운터까지 채우지 않도록 합니다.
+     * </p>
+     *
+     * @param userEmail 로그인 요청 이메일
+     * @param clientIp  클라이언트 IP
+     * @throws TooManyRequestsException 이메일 또는 IP의 시도 횟수가 한도를 넘은 경우
+     */
+    public void check(String userEmail, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        if (clientIp != null) {
+            reject(ipLimiter.tryAcquire("ip:" + clientIp), ipThrottled, "ip", clientIp);
+        }
+        if (userEmail != null) {
+            reject(emailLimiter.tryAcquire("email:" + userEmail.toLowerCase(Locale.ROOT)), emailThrottled, "email", userEmail);
+        }
+    }
+
+    private void reject(Duration retryAfter, Counter throttled, String scope, String key) {
+        if (retryAfter.isZero()) {
+            return;
+        }
+        throttled.increment();
+        log.debug("로그인 시도 제한: {}={}, retryAfter={}", scope, key, retryAfter);
+        throw new TooManyRequestsException(THROTTLED_MESSAGE, retryAfter);
+    }
+
+    private static Counter throttledCounter(MeterRegistry registry, String scope) {
+        return Counter.builder("user.login.throttled")
+                .description("빈도 제한으로 거절된 로그인 시도 수")
+                .tag("scope", scope)
+                .register(registry);
+    }
+}
@@ -0,0 +1,177 @@
+package com.nhnacademy.user.lookup;
+
+import com.nhnacademy.common.bloom.ConcurrentBloomFilter;
+import com.nhnacademy.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 가입된(탈퇴하지 않은) 사용자 이메일의 블룸 필터입니다.
+ * <p>
+ * 이메일 중복 확인은 없는 이메일이어도 매번 DB를 조회하므로, 필터가 "확실히 없음"이라고 답하면
+ * 조회를 건너뜁니다. "있을 수 있음"이면 지금처럼 DB로 확인합니다.
+ * </p>
+ * <p>
+ * 필터는 인스턴스마다 따로 유지되고 같은 인스턴스에서 가입한 이메일만 즉시 반영하므로, 다른 인스턴스에서
+ * 가입한 이메일은 다음 재구성 전까지 "없음"으로 답할 수 있습니다. 따라서 틀려도 가입 시 유일 키로 다시 걸러지는
+ * 중복 확인 힌트에만 사용하고, 로그인처럼 결과가 틀리면 안 되는 경로에는 사용하지 않습니다.
+ * </p>
+ * <p>
+ * 기동 시와 {@code user.email-filter.rebuild-interval}마다 DB 기준으로 다시 만들어 탈퇴한 사용자를 걸러내고,
+ * 그 사이 가입한 이메일은 {@link #add(String)}로 추가합니다. 재구성 중에 추가된 이메일은 새 필터에도 기록하므로
+ * 교체 시점에 가입자가 빠지지 않습니다. 첫 재구성이 끝나기 전에는 모든 이메일을 "있을 수 있음"으로 답합니다.
+ * </p>
+ * <p>
+ * MySQL 기본 collation은 대소문자(와 악센트)를 구분하지 않으므로, ASCII 이메일은 소문자로 정규화하고
+ * ASCII가 아닌 이메일은 필터를 거치지 않고 항상 DB로 확인합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class KnownEmailFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double falsePositiveRate;
+    private final long minCapacity;
+    private final int fetchSize;
+    private final Counter negativeLookups;
+    private final Counter positiveLookups;
+
+    private volatile ConcurrentBloomFilter current;
+    private volatile ConcurrentBloomFilter building;
+
+    public KnownEmailFilter(UserRepository userRepository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectProvider<MeterRegistry> meterRegistry,
+                            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${user.email-filter.min-capacity:10000}") long minCapacity,
+                            @Value("${user.email-filter.fetch-size:1000}") int fetchSize) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = minCapacity;
+        this.fetchSize = fetchSize;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.negativeLookups = lookupCounter(registry, "negative");
+        this.positiveLookups = lookupCounter(registry, "maybe");
+    }
+
+    /**
+     * 이메일이 가입돼 있을 가능성이 있는지 확인합니다.
+     *
+     * @param userEmail 사용자 이메일
+     * @return 확실히 가입되지 않았으면 false, 그 외(가입됐을 수 있음, 필터 준비 전, 비ASCII)는 true
+     */
+    public boolean mightExist(String userEmail) {
+        ConcurrentBloomFilter filter = current;
+        String key = normalize(userEmail);
+        if (filter == null || key == null) {
+            return true;
+        }
+
+        if (filter.mightContain(key)) {
+            positiveLookups.increment();
+            return true;
+        }
+        negativeLookups.increment();
+        return false;
+    }
+
+    /**
+     * 가입이 커밋된 이메일을 추가합니다.
+     *
+     * @param userEmail 사용자 이메일
+     */
+    public void add(String userEmail) {
+        String key = normalize(userEmail);
+        if (key == null) {
+            return;
+        }
+
+        // 재구성 중이면 새 필터에 먼저 기록해, 교체 직후에도 이 이메일이 빠지지 않게 합니다.
+        ConcurrentBloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+        ConcurrentBloomFilter filter = current;
+        if (filter != null) {
+            filter.put(key);
+        }
+    }
+
+    /**
+     * DB 기준으로 필터를 다시 만듭니다.
+     * <p>
+     * 전체 사용자 수의 두 배(최소 {@code user.email-filter.min-capacity})를 기준으로 크기를 잡아,
+     * 다음 재구성까지 가입자가 늘어도 오탐률이 목표 근처에 머물게 합니다.
+     * 실패하면 기존 필터를 그대로 사용합니다.
+     * </p>
+     * <p>
+     * 크기를 정하는 count는 이메일 조회 트랜잭션 밖에서 실행합니다. REPEATABLE READ에서는 트랜잭션의 첫 조회가
+     * 스냅샷을 고정하므로, 새 필터를 공개한 뒤 시작한 트랜잭션의 조회만 스냅샷이 공개 이후에 잡힙니다.
+     * 그래야 스냅샷 이후에 커밋된 가입자가 커밋 후 {@link #add(String)}로 새 필터에 기록됩니다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.email-filter.rebuild-interval:PT1H}",
+            initialDelayString = "${user.email-filter.rebuild-interval:PT1H}")
+    public void rebuild() {
+        try {
+            ConcurrentBloomFilter next = ConcurrentBloomFilter.create(
+                    Math.max(minCapacity, userRepository.count() * 2), falsePositiveRate);
+
+            building = next;
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamActiveUserEmails(fetchSize)) {
+                    emails.map(KnownEmailFilter::normalize)
+                            .filter(Objects::nonNull)
+                            .forEach(next::put);
+                }
+            });
+
+            current = next;
+            log.debug("이메일 블룸 필터 재구성 완료: {}건", next.insertions());
+        } catch (RuntimeException e) {
+            log.warn("이메일 블룸 필터 재구성 실패, 기존 필터 유지: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private static String normalize(String userEmail) {
+        if (userEmail == null) {
+            return null;
+        }
+        String trimmed = userEmail.trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (trimmed.charAt(i) > 0x7F) {
+                return null;
+            }
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("user.email-filter.lookups")
+                .description("이메일 블룸 필터 조회 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -1,11 +1,16 @@
 package com.nhnacademy.user.repository;
 
+import com.nhnacademy.user.dto.UserRecipientResponse;
 import com.nhnacademy.user.dto.UserResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 사용자에 대한 커스텀 조회 기능을 정의한 인터페이스입니다.
@@ -28,6 +33,17 @@ public interface CustomUserRepository {
      */
     Optional<UserResponse> findUserResponseByUserEmail(String userEmail);
 
+    /**
+     * 사용자 이메일을 기반으로 사용자의 권한 ID만 조회합니다.
+     * <p>
+     * 관리자 인가처럼 권한만 필요한 경우 조인 없이 users 테이블의 role_id 컬럼만 조회합니다.
+     * </p>
+     *
+     * @param userEmail 조회할 사용자 이메일
+     * @return 사용자의 권한 ID, 탈퇴했거나 존재하지 않는 사용자라면 {@link Optional#empty()}
+     */
+    Optional<String> findUserRoleIdByUserEmail(String userEmail);
+
     /**
      * 시스템에 존재하는 모든 사용자 정보를 조회합니다.
      * <p>
@@ -40,5 +56,110 @@ public interface CustomUserRepository {
      */
     Optional<Page<UserResponse>> findAllUserResponse(Pageable pageable);
 
+    /**
+     * 탈퇴하지 않은 사용자 목록의 한 페이지 내용만 조회합니다.
+     * <p>
+     * 전체 건수는 조회하지 않으므로, 건수를 별도로 알고 있는 경우에 사용합니다.
+     * </p>
+     *
+     * @param pageable 페이지 정보
+     * @return 해당 페이지의 사용자 목록
+     */
+    List<UserResponse> findUserResponses(Pageable pageable);
+
+    /**
+     * 탈퇴하지 않은 사용자 목록을 {@link Slice}로 조회합니다.
+     * <p>
+     * 페이지 크기보다 한 건 더 조회하여 다음 페이지 존재 여부만 판단하며, count 쿼리를 실행하지 않습니다.
+     * </p>
+     *
+     * @param pageable 페이지 정보
+     * @return 사용자 목록과 다음 페이지 존재 여부
+     */
+    Slice<UserResponse> findUserResponseSlice(Pageable pageable);
+
+    /**
+     * 부서별 탈퇴하지 않은 사용자 수를 집계합니다.
+     *
+     * @return 부서 ID별 활성 사용자 수
+     */
+    Map<String, Long> countActiveUsersGroupByDepartment();
+
+    /**
+     * 특정 부서의 탈퇴하지 않은 사용자 수를 조회합니다.
+     *
+     * @param departmentId 부서 ID
+     * @return 활성 사용자 수
+     */
+    long countActiveUsersByDepartmentId(String departmentId);
+
     Optional<List<UserResponse>> findUsersByDepartmentId(String departmentId, Pageable pageable);
+
+    /**
+     * user_no 기준 커서(keyset) 방식으로 탈퇴하지 않은 사용자 목록을 조회합니다.
+     * <p>
+     * OFFSET 대신 {@code user_no > lastUserNo} 조건과 기본키 정렬을 사용하므로 페이지가 깊어져도 비용이 일정하며,
+     * 전체 건수 조회(count)를 수행하지 않습니다.
+     * </p>
+     *
+     * @param lastUserNo 이전 페이지의 마지막 사용자 번호, 첫 페이지라면 null
+     * @param limit      조회할 최대 건수
+     * @return user_no 오름차순으로 정렬된 사용자 목록
+     */
+    List<UserResponse> findUserResponsesAfter(Long lastUserNo, int limit);
+
+    /**
+     * 여러 이메일에 해당하는 탈퇴하지 않은 사용자를 한 번의 IN 쿼리로 조회합니다.
+     * <p>
+     * 결과의 순서는 보장하지 않으므로 호출 측에서 필요한 순서로 정렬해야 합니다.
+     * </p>
+     *
+     * @param userEmails 조회할 사용자 이메일 목록
+     * @return 존재하는 사용자 목록
+     */
+    List<UserResponse> findUserResponsesByUserEmails(Collection<String> userEmails);
+
+    /**
+     * 여러 사용자 번호에 해당하는 탈퇴하지 않은 사용자를 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param userNos 조회할 사용자 번호 목록
+     * @return 존재하는 사용자 목록
+     */
+    List<UserResponse> findUserResponsesByUserNos(Collection<Long> userNos);
+
+    /**
+     * 부서의 탈퇴하지 않은 사용자 중 이벤트 레벨 우선순위가 기준 이하인 사용자를 조회합니다.
+     * <p>
+     * 알림 발송에 필요한 사용자 번호, 이메일, 연락처만 조회하며
+     * {@code (department_id, withdrawal_at, level_name)} 인덱스를 사용합니다.
+     * </p>
+     *
+     * @param departmentId 부서 ID
+     * @param maxPriority  우선순위 상한, null이면 모든 이벤트 레벨
+     * @return 사용자 번호 오름차순의 수신자 목록
+     */
+    List<UserRecipientResponse> findRecipients(String departmentId, Integer maxPriority);
+
+    /**
+     * 탈퇴하지 않은 모든 사용자를 사용자 번호 순서로 스트리밍 조회합니다.
+     * <p>
+     * 결과를 한 번에 메모리에 올리지 않고 JDBC 커서로 {@code fetchSize}건씩 읽습니다.
+     * 반환된 스트림은 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+     * </p>
+     *
+     * @param fetchSize 한 번에 가져올 행 수
+     * @return 사용자 정보 스트림
+     */
+    Stream<UserResponse> streamAllUserResponses(int fetchSize);
+
+    /**
+     * 탈퇴하지 않은 모든 사용자의 이메일을 스트리밍 조회합니다.
+     * <p>
+     * 반환된 스트림은 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+     * </p>
+     *
+     * @param fetchSize 한 번에 가져올 행 수
+     * @return 이메일 스트림
+     */
+    Stream<String> streamActiveUserEmails(int fetchSize);
 }
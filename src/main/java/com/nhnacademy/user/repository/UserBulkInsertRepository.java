@@ -0,0 +1,79 @@
+package com.nhnacademy.user.repository;
+
+import com.nhnacademy.user.domain.User;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 사용자를 JDBC 배치로 한꺼번에 저장하는 리포지토리입니다.
+ * <p>
+ * {@link User#getUserNo()}는 {@code IDENTITY} 전략이라 Hibernate가 insert마다 생성된 키를 즉시 받아와야 하므로
+ * {@code hibernate.jdbc.batch_size}를 설정해도 배치 insert가 되지 않습니다. 일괄 등록은 생성된 사용자 번호가 필요 없으므로
+ * 엔티티를 만들지 않고 외래 키 값만 담은 {@link NewUser} 행을 {@link JdbcTemplate#batchUpdate}로 직접 저장합니다.
+ * MySQL에서는 {@code rewriteBatchedStatements=true}일 때 한 배치가 다중 행 insert 하나로 전송됩니다.
+ * </p>
+ * <p>
+ * {@link User#prePersist()} 같은 엔티티 콜백은 실행되지 않으므로 생성 일시는 여기서 채웁니다.
+ * </p>
+ */
+@Timed("user.repository")
+@Repository
+@RequiredArgsConstructor
+public class UserBulkInsertRepository {
+    private static final String INSERT_SQL = "insert into users "
+            + "(user_name, user_email, user_password, user_phone, is_socialed, created_at, level_name, role_id, department_id) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${user.import.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 새 사용자들을 배치 insert로 저장합니다.
+     * <p>
+     * 전체가 한 트랜잭션으로 처리되므로, 한 행이라도 실패하면(예: 동시에 가입한 같은 이메일) 모두 롤백됩니다.
+     * </p>
+     *
+     * @param users 저장할 사용자 행 목록
+     * @return 저장한 사용자 수
+     */
+    @Transactional
+    public int insertAll(List<NewUser> users) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, batchSize, (ps, user) -> {
+            ps.setString(1, user.userName());
+            ps.setString(2, user.userEmail());
+            ps.setString(3, user.userPassword());
+            ps.setString(4, user.userPhone());
+            ps.setBoolean(5, user.socialed());
+            ps.setTimestamp(6, createdAt);
+            ps.setString(7, user.eventLevelName());
+            ps.setString(8, user.roleId());
+            ps.setString(9, user.departmentId());
+        });
+
+        return users.size();
+    }
+
+    /**
+     * {@code users} 테이블에 저장할 새 사용자 한 행입니다.
+     *
+     * @param userPassword   해시된 비밀번호
+     * @param departmentId   부서 ID
+     * @param roleId         권한 ID
+     * @param eventLevelName 이벤트 레벨 이름
+     */
+    public record NewUser(String userName, String userEmail, String userPassword, String userPhone, boolean socialed,
+                          String departmentId, String roleId, String eventLevelName) {
+    }
+}
@@ -1,8 +1,16 @@
 package com.nhnacademy.user.repository;
 
 import com.nhnacademy.user.domain.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,4 +30,68 @@ public interface UserRepository extends JpaRepository<User, Long>, CustomUserRep
     boolean existsByUserEmailAndWithdrawalAtIsNull(String userEmail);
 
     Optional<User> findByUserEmailAndWithdrawalAtIsNull(String userEmail);
+
+    /**
+     * 탈퇴하지 않은 사용자를 프로필 이미지와 함께 한 번의 조회로 가져옵니다.
+     * <p>
+     * 프로필 이미지를 읽거나 수정하는 경로에서 지연 로딩으로 인한 추가 조회 없이 사용합니다.
+     * </p>
+     *
+     * @param userEmail 사용자 이메일
+     * @return 프로필 이미지가 채워진 사용자
+     */
+    @EntityGraph(attributePaths = "profileImage")
+    Optional<User> findWithProfileImageByUserEmailAndWithdrawalAtIsNull(String userEmail);
+
+    /**
+     * 주어진 이메일 중 이미 사용 중인 이메일만 조회합니다.
+     * <p>
+     * {@code user_email}은 탈퇴한 사용자를 포함해 유일해야 하므로 탈퇴 여부와 관계없이 조회합니다.
+     * </p>
+     *
+     * @param userEmails 확인할 이메일 목록
+     * @return 이미 존재하는 이메일 목록
+     */
+    @Query("select u.userEmail from User u where u.userEmail in :userEmails")
+    List<String> findExistingUserEmails(@Param("userEmails") Collection<String> userEmails);
+
+    /**
+     * 탈퇴하지 않은 사용자의 비밀번호를 변경합니다.
+     * <p>
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 단건 update 쿼리로 처리하므로,
+     * 호출 측 트랜잭션 없이도 짧은 트랜잭션 안에서 바로 커밋됩니다.
+     * </p>
+     *
+     * @param userEmail    사용자 이메일
+     * @param userPassword 해시된 새 비밀번호
+     * @param updatedAt    수정 일시
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.userPassword = :userPassword, u.updatedAt = :updatedAt " +
+            "where u.userEmail = :userEmail and u.withdrawalAt is null")
+    int updatePassword(@Param("userEmail") String userEmail,
+                       @Param("userPassword") String userPassword,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 로그인 시 검증한 해시를 새 알고리즘/비용의 해시로 교체합니다.
+     * <p>
+     * 사용자가 수정한 것이 아니므로 수정 일시는 바꾸지 않으며, 그 사이 비밀번호가 변경됐다면
+     * 저장된 해시가 {@code currentPassword}와 달라 아무 행도 바뀌지 않습니다.
+     * </p>
+     *
+     * @param userEmail       사용자 이메일
+     * @param currentPassword 로그인 시 검증한 기존 해시
+     * @param newPassword     새 해시
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.userPassword = :newPassword " +
+            "where u.userEmail = :userEmail and u.userPassword = :currentPassword and u.withdrawalAt is null")
+    int rehashPassword(@Param("userEmail") String userEmail,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
 }
\ No newline at end of file
@@ -1,24 +1,39 @@
 package com.nhnacademy.user.repository.impl;
 
 import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.eventlevel.domain.QEventLevel;
 import com.nhnacademy.eventlevel.dto.EventLevelResponse;
 import com.nhnacademy.user.domain.QUser;
 import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.dto.UserRecipientResponse;
 import com.nhnacademy.user.dto.UserResponse;
 import com.nhnacademy.user.repository.CustomUserRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQuery;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Timed("user.repository")
 public class CustomUserRepositoryImpl extends QuerydslRepositorySupport implements CustomUserRepository {
 
     public CustomUserRepositoryImpl() {
@@ -28,29 +43,48 @@ public class CustomUserRepositoryImpl extends QuerydslRepositorySupport implemen
     @PersistenceContext
     EntityManager entityManager;
 
+    /**
+     * UserResponse DTO로 조회하기 위한 공통 프로젝션입니다.
+     */
+    private static ConstructorExpression<UserResponse> userResponseProjection(QUser qUser) {
+        return Projections.constructor(
+                UserResponse.class,
+                qUser.role.roleId,
+                qUser.userNo,
+                qUser.userName,
+                qUser.userEmail,
+                qUser.userPhone,
+                Projections.constructor(DepartmentResponse.class,
+                        qUser.department.departmentId,
+                        qUser.department.departmentName
+                ),
+                Projections.constructor(EventLevelResponse.class,
+                        qUser.eventLevel.eventLevelName,
+                        qUser.eventLevel.eventLevelDetails,
+                        qUser.eventLevel.priority
+                )
+        );
+    }
+
     @Override
     public Optional<UserResponse> findUserResponseByUserEmail(String userEmail) {
         JPAQuery<UserResponse> query = new JPAQuery<>(entityManager);
         QUser qUser = QUser.user;
 
         return Optional.ofNullable(query
-                .select(Projections.constructor(
-                        UserResponse.class,
-                        qUser.role.roleId,
-                        qUser.userNo,
-                        qUser.userName,
-                        qUser.userEmail,
-                        qUser.userPhone,
-                        Projections.constructor(DepartmentResponse.class,
-                                qUser.department.departmentId,
-                                qUser.department.departmentName
-                        ),
-                        Projections.constructor(EventLevelResponse.class,
-                                qUser.eventLevel.eventLevelName,
-                                qUser.eventLevel.eventLevelDetails,
-                                qUser.eventLevel.priority
-                        )
-                ))
+                .select(userResponseProjection(qUser))
+                .from(qUser)
+                .where(qUser.userEmail.eq(userEmail)
+                        .and(qUser.withdrawalAt.isNull()))
+                .fetchOne());
+    }
+
+    @Override
+    public Optional<String> findUserRoleIdByUserEmail(String userEmail) {
+        QUser qUser = QUser.user;
+
+        return Optional.ofNullable(new JPAQuery<String>(getEntityManager())
+                .select(qUser.role.roleId)
                 .from(qUser)
                 .where(qUser.userEmail.eq(userEmail)
                         .and(qUser.withdrawalAt.isNull()))
@@ -62,65 +96,88 @@ public class CustomUserRepositoryImpl extends QuerydslRepositorySupport implemen
         QUser qUser = QUser.user;
 
         // content 쿼리
-        List<UserResponse> content = new JPAQuery<UserResponse>(getEntityManager())
-                .select(Projections.constructor(
-                        UserResponse.class,
-                        qUser.role.roleId,
-                        qUser.userNo,
-                        qUser.userName,
-                        qUser.userEmail,
-                        qUser.userPhone,
-                        Projections.constructor(DepartmentResponse.class,
-                                qUser.department.departmentId,
-                                qUser.department.departmentName
-                        ),
-                        Projections.constructor(EventLevelResponse.class,
-                                qUser.eventLevel.eventLevelName,
-                                qUser.eventLevel.eventLevelDetails,
-                                qUser.eventLevel.priority
-                        )
-                ))
+        List<UserResponse> content = findUserResponses(pageable);
+
+        // count 쿼리 (첫 페이지/마지막 페이지처럼 내용만으로 전체 건수를 알 수 있으면 생략)
+        return Optional.of(PageableExecutionUtils.getPage(content, pageable, () -> new JPAQuery<Long>(getEntityManager())
+                .select(qUser.count())
+                .from(qUser)
+                .where(qUser.withdrawalAt.isNull())
+                .fetchOne()));
+    }
+
+    @Override
+    public List<UserResponse> findUserResponses(Pageable pageable) {
+        QUser qUser = QUser.user;
+
+        return new JPAQuery<UserResponse>(getEntityManager())
+                .select(userResponseProjection(qUser))
                 .from(qUser)
                 .where(qUser.withdrawalAt.isNull())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+    }
 
-        // count 쿼리
-        long total = new JPAQuery<Long>(getEntityManager())
-                .select(qUser.count())
+    @Override
+    public Slice<UserResponse> findUserResponseSlice(Pageable pageable) {
+        QUser qUser = QUser.user;
+
+        List<UserResponse> content = new JPAQuery<UserResponse>(getEntityManager())
+                .select(userResponseProjection(qUser))
                 .from(qUser)
                 .where(qUser.withdrawalAt.isNull())
-                .fetchOne();
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
 
-        return Optional.of(new PageImpl<>(content, pageable, total));
+        return new SliceImpl<>(content, pageable, hasNext);
     }
 
+    @Override
+    public Map<String, Long> countActiveUsersGroupByDepartment() {
+        QUser qUser = QUser.user;
+        StringPath departmentId = qUser.department.departmentId;
+        NumberExpression<Long> count = qUser.count();
+
+        return new JPAQuery<Tuple>(getEntityManager())
+                .select(departmentId, count)
+                .from(qUser)
+                .where(qUser.withdrawalAt.isNull())
+                .groupBy(departmentId)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(departmentId),
+                        tuple -> tuple.get(count)
+                ));
+    }
+
+    @Override
+    public long countActiveUsersByDepartmentId(String departmentId) {
+        QUser qUser = QUser.user;
+
+        Long count = new JPAQuery<Long>(getEntityManager())
+                .select(qUser.count())
+                .from(qUser)
+                .where(qUser.department.departmentId.eq(departmentId)
+                        .and(qUser.withdrawalAt.isNull()))
+                .fetchOne();
+
+        return count == null ? 0L : count;
+    }
 
     @Override
     public Optional<List<UserResponse>> findUsersByDepartmentId(String departmentId, Pageable pageable) {
         QUser qUser = QUser.user;
 
         return Optional.of(new JPAQuery<UserResponse>(getEntityManager())
-                .select(Projections.constructor(
-                        UserResponse.class,
-                        qUser.role.roleId,
-                        qUser.userNo,
-                        qUser.userName,
-                        qUser.userEmail,
-                        qUser.userPhone,
-                        Projections.constructor(
-                                DepartmentResponse.class,
-                                qUser.department.departmentId,
-                                qUser.department.departmentName
-                        ),
-                        Projections.constructor(
-                                EventLevelResponse.class,
-                                qUser.eventLevel.eventLevelName,
-                                qUser.eventLevel.eventLevelDetails,
-                                qUser.eventLevel.priority
-                        )
-                ))
+                .select(userResponseProjection(qUser))
                 .from(qUser)
                 .where(qUser.department.departmentId.eq(departmentId)
                         .and(qUser.withdrawalAt.isNull()))
@@ -128,4 +185,96 @@ public class CustomUserRepositoryImpl extends QuerydslRepositorySupport implemen
                 .limit(pageable.getPageSize())
                 .fetch());
     }
+
+    @Override
+    public List<UserResponse> findUserResponsesAfter(Long lastUserNo, int limit) {
+        QUser qUser = QUser.user;
+
+        BooleanBuilder condition = new BooleanBuilder(qUser.withdrawalAt.isNull());
+        if (lastUserNo != null) {
+            condition.and(qUser.userNo.gt(lastUserNo));
+        }
+
+        return new JPAQuery<UserResponse>(getEntityManager())
+                .select(userResponseProjection(qUser))
+                .from(qUser)
+                .where(condition)
+                .orderBy(qUser.userNo.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<UserResponse> findUserResponsesByUserEmails(Collection<String> userEmails) {
+        QUser qUser = QUser.user;
+
+        return new JPAQuery<UserResponse>(getEntityManager())
+                .select(userResponseProjection(qUser))
+                .from(qUser)
+                .where(qUser.userEmail.in(userEmails)
+                        .and(qUser.withdrawalAt.isNull()))
+                .fetch();
+    }
+
+    @Override
+    public List<UserRecipientResponse> findRecipients(String departmentId, Integer maxPriority) {
+        QUser qUser = QUser.user;
+        QEventLevel qEventLevel = QEventLevel.eventLevel;
+
+        BooleanBuilder condition = new BooleanBuilder(qUser.department.departmentId.eq(departmentId))
+                .and(qUser.withdrawalAt.isNull());
+        if (maxPriority != null) {
+            condition.and(qEventLevel.priority.loe(maxPriority));
+        }
+
+        return new JPAQuery<UserRecipientResponse>(getEntityManager())
+                .select(Projections.constructor(
+                        UserRecipientResponse.class,
+                        qUser.userNo,
+                        qUser.userEmail,
+                        qUser.userPhone
+                ))
+                .from(qUser)
+                .join(qUser.eventLevel, qEventLevel)
+                .where(condition)
+                .orderBy(qUser.userNo.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<UserResponse> findUserResponsesByUserNos(Collection<Long> userNos) {
+        QUser qUser = QUser.user;
+
+        return new JPAQuery<UserResponse>(getEntityManager())
+                .select(userResponseProjection(qUser))
+                .from(qUser)
+                .where(qUser.userNo.in(userNos)
+                        .and(qUser.withdrawalAt.isNull()))
+                .fetch();
+    }
+
+    @Override
+    public Stream<UserResponse> streamAllUserResponses(int fetchSize) {
+        QUser qUser = QUser.user;
+
+        return new JPAQuery<UserResponse>(getEntityManager())
+                .select(userResponseProjection(qUser))
+                .from(qUser)
+                .where(qUser.withdrawalAt.isNull())
+                .orderBy(qUser.userNo.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+    }
+
+    @Override
+    public Stream<String> streamActiveUserEmails(int fetchSize) {
+        QUser qUser = QUser.user;
+
+        return new JPAQuery<String>(getEntityManager())
+                .select(qUser.userEmail)
+                .from(qUser)
+                .where(qUser.withdrawalAt.isNull())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+    }
 }
@@ -0,0 +1,26 @@
+package com.nhnacademy.user.service;
+
+import com.nhnacademy.user.dto.UserFileFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 전체 사용자 목록을 파일 형태로 내보내는 서비스 인터페이스입니다.
+ */
+public interface UserExportService {
+
+    /**
+     * 탈퇴하지 않은 모든 사용자를 지정한 형식으로 출력 스트림에 씁니다.
+     * <p>
+     * 사용자 수와 관계없이 일정한 메모리만 사용하며, 출력 스트림에 쓰기가 실패하면(클라이언트 연결 종료 등)
+     * 즉시 조회를 중단합니다.
+     * </p>
+     *
+     * @param format       내보내기 형식
+     * @param outputStream 결과를 쓸 출력 스트림 (이 메서드에서 닫지 않음)
+     * @return 내보낸 사용자 수
+     * @throws IOException 출력 스트림에 쓰기가 실패한 경우
+     */
+    long exportUsers(UserFileFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,26 @@
+package com.nhnacademy.user.service;
+
+import com.nhnacademy.user.dto.UserFileFormat;
+import com.nhnacademy.user.dto.UserImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 파일로 여러 사용자를 한 번에 등록하는 서비스 인터페이스입니다.
+ */
+public interface UserImportService {
+
+    /**
+     * CSV 또는 NDJSON 파일의 사용자를 일괄 등록합니다.
+     * <p>
+     * 각 행은 회원가입과 같은 규칙으로 검증하며, 검증에 실패한 행은 건너뛰고 나머지 행만 등록합니다.
+     * </p>
+     *
+     * @param format      파일 형식
+     * @param inputStream 업로드된 파일 내용
+     * @return 행별 처리 결과
+     * @throws IOException 파일을 읽지 못한 경우
+     */
+    UserImportResponse importUsers(UserFileFormat format, InputStream inputStream) throws IOException;
+}
@@ -3,6 +3,7 @@ package com.nhnacademy.user.service;
 import com.nhnacademy.user.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -35,6 +36,17 @@ public interface UserService {
      */
     UserResponse getUser(String userEmail);
 
+    /**
+     * 사용자 이메일을 기반으로 사용자의 권한 ID를 조회합니다.
+     * <p>
+     * 관리자 인가 필터처럼 매 요청마다 권한만 확인하는 경로에서 사용하며, 결과는 캐시됩니다.
+     * </p>
+     *
+     * @param userEmail 사용자 이메일(아이디)
+     * @return 사용자 권한 ID (예: ROLE_ADMIN)
+     */
+    String getUserRole(String userEmail);
+
     /**
      * 로그인 요청 정보로 사용자 정보를 조회합니다.
      * <p>
@@ -97,7 +109,60 @@ public interface UserService {
      */
     Page<UserResponse> getAllUser(Pageable pageable);
 
+    /**
+     * 전체 건수 없이 사용자 목록과 다음 페이지 존재 여부만 조회합니다.
+     *
+     * @param pageable 페이지 정보
+     * @return 사용자 목록 Slice
+     */
+    Slice<UserResponse> getUserSlice(Pageable pageable);
+
+    /**
+     * 커서(keyset) 방식으로 사용자 목록을 조회합니다.
+     * <p>
+     * OFFSET과 전체 건수 조회 없이 user_no 순서로 다음 페이지를 조회합니다.
+     * </p>
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 null
+     * @param size   페이지 크기
+     * @return 사용자 목록과 다음 커서
+     */
+    UserCursorResponse getUsersByCursor(String cursor, int size);
+
+    /**
+     * 이메일 목록으로 사용자를 일괄 조회합니다.
+     *
+     * @param userEmails 조회할 이메일 목록
+     * @return 요청 순서대로 정렬된 사용자 목록과 찾지 못한 이메일
+     */
+    UserBatchResponse<String> getUsersByEmails(List<String> userEmails);
+
+    /**
+     * 사용자 번호 목록으로 사용자를 일괄 조회합니다.
+     *
+     * @param userNos 조회할 사용자 번호 목록
+     * @return 요청 순서대로 정렬된 사용자 목록과 찾지 못한 사용자 번호
+     */
+    UserBatchResponse<Long> getUsersByUserNos(List<Long> userNos);
+
     List<UserResponse> getUsersByDepartmentId(String departmentId, Pageable pageable);
 
+    /**
+     * 부서의 알림 수신자 목록을 조회합니다.
+     *
+     * @param departmentId 부서 ID
+     * @param maxPriority  이벤트 레벨 우선순위 상한, null이면 제한 없음
+     * @return 수신자(사용자 번호, 이메일, 연락처) 목록
+     */
+    List<UserRecipientResponse> getDepartmentRecipients(String departmentId, Integer maxPriority);
+
+    /**
+     * 부서의 탈퇴하지 않은 사용자 수를 조회합니다.
+     *
+     * @param departmentId 부서 ID
+     * @return 활성 사용자 수
+     */
+    long countUsersByDepartmentId(String departmentId);
+
     boolean existsByUserEmail(String userEmail);
 }
@@ -0,0 +1,130 @@
+package com.nhnacademy.user.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.user.dto.UserFileFormat;
+import com.nhnacademy.user.dto.UserResponse;
+import com.nhnacademy.user.repository.UserRepository;
+import com.nhnacademy.user.service.UserExportService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 사용자 목록을 NDJSON 또는 CSV로 내보내는 서비스 구현체입니다.
+ * <p>
+ * 페이지 단위로 반복 조회하지 않고, 읽기 전용 트랜잭션 하나에서 JDBC 커서를 앞으로만 읽으며
+ * 한 건씩 바로 출력 스트림에 씁니다. DTO 프로젝션으로 조회하므로 영속성 컨텍스트에도 쌓이지 않습니다.
+ * </p>
+ * <p>
+ * MySQL 드라이버는 {@code useCursorFetch=true}일 때만 fetch size만큼 나누어 가져오므로
+ * 데이터소스 설정에 해당 속성이 있어야 합니다.
+ * </p>
+ */
+@Slf4j
+@Timed("user.service")
+@Service
+@RequiredArgsConstructor
+public class UserExportServiceImpl implements UserExportService {
+    private static final String CSV_HEADER = "userNo,userName,userEmail,userPhone,userRole,"
+            + "departmentId,departmentName,eventLevelName,eventLevelPriority";
+
+    /**
+     * 엑셀에서 한글이 깨지지 않도록 CSV 앞에 붙이는 UTF-8 BOM입니다.
+     */
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${user.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(UserFileFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = 0;
+
+        try (Stream<UserResponse> users = userRepository.streamAllUserResponses(fetchSize)) {
+            if (format == UserFileFormat.CSV) {
+                writer.write(UTF8_BOM);
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<UserResponse> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                UserResponse user = iterator.next();
+                writer.write(format == UserFileFormat.CSV ? toCsvLine(user) : objectMapper.writeValueAsString(user));
+                writer.write('\n');
+                count++;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // 스트림이 닫히면서 커서와 커넥션도 함께 반환됩니다.
+            log.info("사용자 내보내기 중단: {}건 출력 후 쓰기 실패 ({})", count, e.getMessage());
+            throw e;
+        }
+
+        log.debug("사용자 내보내기 완료: format={}, count={}", format, count);
+        return count;
+    }
+
+    private static String toCsvLine(UserResponse user) {
+        String departmentId = user.getDepartment() == null ? null : user.getDepartment().getDepartmentId();
+        String departmentName = user.getDepartment() == null ? null : user.getDepartment().getDepartmentName();
+        String eventLevelName = user.getEventLevelResponse() == null ? null : user.getEventLevelResponse().getEventLevelName();
+        Integer priority = user.getEventLevelResponse() == null ? null : user.getEventLevelResponse().getPriority();
+
+        return String.join(",",
+                csv(user.getUserNo()),
+                csv(user.getUserName()),
+                csv(user.getUserEmail()),
+                csv(user.getUserPhone()),
+                csv(user.getUserRole()),
+                csv(departmentId),
+                csv(departmentName),
+                csv(eventLevelName),
+                csv(priority));
+    }
+
+    /**
+     * RFC 4180 규칙대로 값을 이스케이프합니다. 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감쌉니다.
+     * <p>
+     * 스프레드시트가 수식으로 실행하지 않도록 {@code =}, {@code +}, {@code -}, {@code @}, 탭, CR로 시작하는
+     * 문자열 값은 앞에 {@code '}를 붙이고 따옴표로 감쌉니다(CSV injection 방지). 숫자 값은 그대로 둡니다.
+     * </p>
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && isFormulaLike(text)) {
+            text = "'" + text;
+        } else if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    private static boolean isFormulaLike(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
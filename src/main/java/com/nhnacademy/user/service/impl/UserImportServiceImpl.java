@@ -0,0 +1,324 @@
+package com.nhnacademy.user.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.common.cache.CacheNames;
+import com.nhnacademy.common.exception.BadRequestException;
+import com.nhnacademy.common.exception.ConflictException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
+import com.nhnacademy.common.security.BulkheadPasswordEncoder;
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.user.counter.ActiveUserCounter;
+import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.dto.UserFileFormat;
+import com.nhnacademy.user.dto.UserImportResponse;
+import com.nhnacademy.user.dto.UserImportRowResult;
+import com.nhnacademy.user.dto.UserImportRowResult.Status;
+import com.nhnacademy.user.dto.UserRegisterRequest;
+import com.nhnacademy.user.lookup.KnownEmailFilter;
+import com.nhnacademy.user.repository.UserBulkInsertRepository;
+import com.nhnacademy.user.repository.UserRepository;
+import com.nhnacademy.user.service.UserImportService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 등록 서비스 구현체입니다.
+ * <p>
+ * 회원가입 API를 행마다 호출하면 이메일 중복 확인, 부서 확인, BCrypt 해시, 단건 insert가 사용자 수만큼 반복됩니다.
+ * 일괄 등록은 이를 단계별로 묶어 처리합니다.
+ * <ol>
+ *     <li>파일 전체를 파싱하고 회원가입과 같은 Bean Validation 규칙으로 검증합니다.</li>
+ *     <li>부서는 참조 데이터 스냅샷에서, 이메일 중복은 IN 쿼리 한 번(1,000개 단위)으로 확인합니다.</li>
+ *     <li>통과한 행의 비밀번호를 해시 풀에서 병렬로 해시합니다. 해시는 트랜잭션 밖에서 수행합니다.</li>
+ *     <li>{@link UserBulkInsertRepository}로 한 트랜잭션 안에서 배치 insert 합니다.</li>
+ * </ol>
+ * </p>
+ */
+@Slf4j
+@Timed("user.service")
+@Service
+@RequiredArgsConstructor
+public class UserImportServiceImpl implements UserImportService {
+    private static final int EXISTS_QUERY_CHUNK_SIZE = 1000;
+    private static final List<String> CSV_COLUMNS =
+            List.of("userName", "userEmail", "userPassword", "userPhone", "userDepartment");
+
+    private final UserRepository userRepository;
+    private final UserBulkInsertRepository userBulkInsertRepository;
+    private final BulkheadPasswordEncoder passwordEncoder;
+    private final ReferenceDataRegistry referenceData;
+    private final ActiveUserCounter activeUserCounter;
+    private final KnownEmailFilter knownEmailFilter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${user.import.max-rows:5000}")
+    private int maxRows;
+
+    @Value("${user.import.hash-parallelism:2}")
+    private int hashParallelism;
+
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENT_RECIPIENTS, allEntries = true)
+    @Override
+    public UserImportResponse importUsers(UserFileFormat format, InputStream inputStream) throws IOException {
+        List<ImportRow> rows = format == UserFileFormat.CSV ? readCsv(inputStream) : readNdjson(inputStream);
+        if (rows.size() > maxRows) {
+            throw new BadRequestException("한 번에 등록할 수 있는 사용자는 최대 " + maxRows + "명입니다.");
+        }
+
+        validate(rows);
+        markExistingEmails(rows);
+
+        List<ImportRow> accepted = rows.stream().filter(row -> row.status == null).toList();
+        if (!accepted.isEmpty()) {
+            insert(accepted);
+        }
+
+        List<UserImportRowResult> results = rows.stream()
+                .map(row -> new UserImportRowResult(row.line,
+                        row.request == null ? null : row.request.getUserEmail(),
+                        row.status,
+                        row.message))
+                .toList();
+        int created = accepted.size();
+
+        log.info("사용자 일괄 등록 완료: 전체 {}건, 등록 {}건, 실패 {}건", rows.size(), created, rows.size() - created);
+        return new UserImportResponse(rows.size(), created, rows.size() - created, results);
+    }
+
+    private void validate(List<ImportRow> rows) {
+        Set<String> seenEmails = new HashSet<>();
+        Map<String, Optional<DepartmentResponse>> departments = new HashMap<>();
+
+        for (ImportRow row : rows) {
+            if (row.status != null) {
+                continue;
+            }
+
+            Set<ConstraintViolation<UserRegisterRequest>> violations = validator.validate(row.request);
+            if (!violations.isEmpty()) {
+                row.fail(Status.INVALID, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(" ")));
+                continue;
+            }
+
+            if (!seenEmails.add(normalize(row.request.getUserEmail()))) {
+                row.fail(Status.DUPLICATE_EMAIL, "파일 안에 같은 이메일이 이미 있습니다.");
+                continue;
+            }
+
+            Optional<DepartmentResponse> department = departments.computeIfAbsent(row.request.getUserDepartment(),
+                    departmentId -> referenceData.existsDepartment(departmentId)
+                            ? referenceData.findDepartment(departmentId)
+                            : Optional.empty());
+            if (department.isEmpty()) {
+                row.fail(Status.DEPARTMENT_NOT_FOUND, "존재하지 않는 부서입니다.");
+                continue;
+            }
+            row.department = department.get();
+        }
+    }
+
+    private void markExistingEmails(List<ImportRow> rows) {
+        List<String> candidates = rows.stream()
+                .filter(row -> row.status == null)
+                .map(row -> row.request.getUserEmail())
+                .toList();
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += EXISTS_QUERY_CHUNK_SIZE) {
+            List<String> chunk = candidates.subList(from, Math.min(from + EXISTS_QUERY_CHUNK_SIZE, candidates.size()));
+            userRepository.findExistingUserEmails(chunk).forEach(email -> existing.add(normalize(email)));
+        }
+
+        rows.stream()
+                .filter(row -> row.status == null && existing.contains(normalize(row.request.getUserEmail())))
+                .forEach(row -> row.fail(Status.DUPLICATE_EMAIL, "이미 존재하는 이메일입니다."));
+    }
+
+    private void insert(List<ImportRow> accepted) {
+        List<String> encodedPasswords = passwordEncoder.encodeAll(
+                accepted.stream().map(row -> row.request.getUserPassword()).toList(),
+                hashParallelism);
+
+        List<UserBulkInsertRepository.NewUser> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            ImportRow row = accepted.get(i);
+            users.add(new UserBulkInsertRepository.NewUser(
+                    row.request.getUserName(),
+                    row.request.getUserEmail(),
+                    encodedPasswords.get(i),
+                    row.request.getUserPhone(),
+                    false,
+                    row.department.getDepartmentId(),
+                    User.DEFAULT_ROLE_ID,
+                    User.DEFAULT_EVENT_LEVEL_NAME
+            ));
+        }
+
+        try {
+            userBulkInsertRepository.insertAll(users);
+        } catch (DuplicateKeyException e) {
+            // 검증 이후 insert 전까지 같은 이메일로 가입한 요청이 있으면 배치 전체가 롤백됩니다.
+            throw new ConflictException("등록 중 다른 요청과 이메일이 중복되었습니다. 다시 시도해주세요.");
+        }
+
+        accepted.forEach(row -> {
+            row.status = Status.CREATED;
+            activeUserCounter.userJoined(row.department.getDepartmentId());
+            knownEmailFilter.add(row.request.getUserEmail());
+        });
+    }
+
+    private List<ImportRow> readCsv(InputStream inputStream) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+
+        try (BufferedReader reader = reader(inputStream)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new BadRequestException("CSV 헤더가 없습니다.");
+            }
+            List<String> columns = parseCsvLine(stripBom(header)).stream().map(String::trim).toList();
+            int[] positions = CSV_COLUMNS.stream().mapToInt(columns::indexOf).toArray();
+            if (Arrays.stream(positions).anyMatch(position -> position < 0)) {
+                throw new BadRequestException("CSV 헤더에는 " + String.join(",", CSV_COLUMNS) + " 컬럼이 있어야 합니다.");
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> values = parseCsvLine(line);
+                rows.add(new ImportRow(lineNumber, new UserRegisterRequest(
+                        column(values, positions[0]),
+                        column(values, positions[1]),
+                        column(values, positions[2]),
+                        column(values, positions[3]),
+                        column(values, positions[4]))));
+            }
+        }
+        return rows;
+    }
+
+    private List<ImportRow> readNdjson(InputStream inputStream) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+
+        try (BufferedReader reader = reader(inputStream)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    rows.add(new ImportRow(lineNumber,
+                            objectMapper.readValue(stripBom(line), UserRegisterRequest.class)));
+                } catch (JsonProcessingException e) {
+                    ImportRow row = new ImportRow(lineNumber, null);
+                    row.fail(Status.INVALID, "JSON 형식이 올바르지 않습니다.");
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static BufferedReader reader(InputStream inputStream) {
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    private static String column(List<String> values, int position) {
+        return position < values.size() ? values.get(position).trim() : null;
+    }
+
+    /**
+     * RFC 4180 형식의 CSV 한 줄을 파싱합니다. 따옴표 안의 줄바꿈은 지원하지 않습니다.
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 파일의 한 행과 처리 상태입니다. 상태가 null이면 아직 등록 대상입니다.
+     */
+    private static final class ImportRow {
+        private final int line;
+        private final UserRegisterRequest request;
+        private DepartmentResponse department;
+        private Status status;
+        private String message;
+
+        private ImportRow(int line, UserRegisterRequest request) {
+            this.line = line;
+            this.request = request;
+        }
+
+        private void fail(Status status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+    }
+}
@@ -1,28 +1,53 @@
 package com.nhnacademy.user.service.impl;
 
+import com.nhnacademy.common.cache.CacheNames;
+import com.nhnacademy.common.exception.BadRequestException;
 import com.nhnacademy.common.exception.ConflictException;
 import com.nhnacademy.common.exception.NotFoundException;
+import com.nhnacademy.common.exception.ServiceUnavailableException;
 import com.nhnacademy.common.exception.UnauthorizedException;
+import com.nhnacademy.common.persistence.DuplicateKeys;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
 import com.nhnacademy.department.domain.Department;
 import com.nhnacademy.department.repository.DepartmentRepository;
 import com.nhnacademy.eventlevel.domain.EventLevel;
 import com.nhnacademy.eventlevel.repository.EventLevelRepository;
 import com.nhnacademy.role.domain.Role;
 import com.nhnacademy.role.repository.RoleRepository;
+import com.nhnacademy.user.counter.ActiveUserCounter;
 import com.nhnacademy.user.domain.User;
 import com.nhnacademy.user.dto.*;
+import com.nhnacademy.user.lookup.KnownEmailFilter;
 import com.nhnacademy.user.repository.UserRepository;
 import com.nhnacademy.user.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스 구현체입니다.
@@ -30,48 +55,61 @@ import java.util.List;
  * 회원가입, 조회, 로그인, 비밀번호 변경, 사용자 정보 수정 및 삭제 등의 기능을 제공합니다.
  * </p>
  */
+@Timed("user.service")
 @Service
 @Transactional
 @Slf4j
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final DepartmentRepository departmentRepository;
     private final EventLevelRepository eventLevelRepository;
+    private final ActiveUserCounter activeUserCounter;
+    private final ReferenceDataRegistry referenceData;
+    private final KnownEmailFilter knownEmailFilter;
 
     /**
      * 새로운 사용자를 등록합니다.
      * <p>
-     * 이메일 중복 여부를 확인하고, 중복될 경우 {@link ConflictException}을 발생시킵니다.
+     * 이메일 중복은 미리 조회하지 않고 {@code user_email} 유니크 제약으로 판단하며,
+     * 제약 위반 시 {@link ConflictException}을 발생시킵니다.
+     * 부서 존재 여부는 참조 데이터 스냅샷으로 확인하고, 부서·기본 권한·기본 이벤트 레벨은 프록시 참조로 연결하므로
+     * 가입 한 건에 실행되는 SQL은 insert 한 번입니다.
+     * </p>
+     * <p>
+     * 비밀번호 해시는 수십 ms가 걸리므로 트랜잭션 밖에서 먼저 계산하고, insert만 짧은 트랜잭션으로 실행합니다.
      * </p>
      *
      * @param registerUserRequest 사용자 등록 요청 DTO
      * @throws ConflictException 이미 등록된 이메일인 경우
-     * @throws NotFoundException 등록 후 사용자 조회 실패 시
+     * @throws NotFoundException 존재하지 않는 부서인 경우
      */
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENT_RECIPIENTS, allEntries = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public void createUser(UserRegisterRequest registerUserRequest, boolean isSocialed) {
-        log.debug("회원가입 시작! 회원 정보: {}", registerUserRequest);
+        log.debug("회원가입 시작! 회원 이메일: {}", registerUserRequest.getUserEmail());
 
-        boolean isExistsEmail = userRepository.existsByUserEmailAndWithdrawalAtIsNull(registerUserRequest.getUserEmail());
-        if (isExistsEmail) {
-            throw new ConflictException("이미 존재하는 이메일입니다.");
-        }
-
-        if (!departmentRepository.existsById(registerUserRequest.getUserDepartment())) {
+        if (!referenceData.existsDepartment(registerUserRequest.getUserDepartment())) {
             throw new NotFoundException("존재하지 않는 부서입니다.");
         }
         Department department = departmentRepository.getReferenceById(registerUserRequest.getUserDepartment());
+        Role role = roleRepository.getReferenceById(User.DEFAULT_ROLE_ID);
+        EventLevel eventLevel = eventLevelRepository.getReferenceById(User.DEFAULT_EVENT_LEVEL_NAME);
 
-        User user = null;
+        User user;
         if (isSocialed) {
             user = User.ofNewSocialMember(registerUserRequest.getUserName(),
                     registerUserRequest.getUserEmail(),
                     registerUserRequest.getUserPassword(),
                     registerUserRequest.getUserPhone(),
-                    department
+                    department,
+                    role,
+                    eventLevel
             );
         } else {
             String encodePassword = passwordEncoder.encode(registerUserRequest.getUserPassword());
@@ -81,23 +119,36 @@ public class UserServiceImpl implements UserService {
                     registerUserRequest.getUserEmail(),
                     encodePassword,
                     registerUserRequest.getUserPhone(),
-                    department
+                    department,
+                    role,
+                    eventLevel
             );
         }
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (DuplicateKeys.isDuplicateKey(e)) {
+                throw new ConflictException("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
+        activeUserCounter.userJoined(registerUserRequest.getUserDepartment());
+        knownEmailFilter.add(registerUserRequest.getUserEmail());
     }
 
     /**
      * 사용자 이메일을 기반으로 사용자 정보를 조회합니다.
      * <p>
      * 사용자가 존재하지 않을 경우 {@link NotFoundException}을 발생시킵니다.
+     * 조회 결과는 {@link CacheNames#USER_RESPONSE} 캐시에 보관되며, 사용자 정보 변경 시 제거됩니다.
      * </p>
      *
      * @param userEmail 조회할 사용자 이메일
      * @return 사용자 정보 (UserResponse DTO)
      * @throws NotFoundException 사용자 정보가 없을 경우
      */
+    @Cacheable(cacheNames = CacheNames.USER_RESPONSE, key = "#userEmail")
     @Transactional(readOnly = true)
     @Override
     public UserResponse getUser(String userEmail) {
@@ -107,10 +158,29 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new NotFoundException("해당 userEmail에 해당하는 유저를 찾을 수 없습니다."));
     }
 
+    /**
+     * 사용자 이메일을 기반으로 사용자의 권한 ID를 조회합니다.
+     * <p>
+     * 결과는 {@link CacheNames#USER_ROLE} 캐시에 보관되며, 권한 변경이나 탈퇴 시 제거됩니다.
+     * </p>
+     *
+     * @param userEmail 조회할 사용자 이메일
+     * @return 사용자 권한 ID
+     * @throws NotFoundException 사용자 정보가 없을 경우
+     */
+    @Cacheable(cacheNames = CacheNames.USER_ROLE, key = "#userEmail")
+    @Transactional(readOnly = true)
+    @Override
+    public String getUserRole(String userEmail) {
+        return userRepository.findUserRoleIdByUserEmail(userEmail)
+                .orElseThrow(() -> new NotFoundException("해당 userEmail에 해당하는 유저를 찾을 수 없습니다."));
+    }
+
     /**
      * 모든 사용자 정보를 조회합니다.
      * <p>
      * 사용자 정보가 없을 경우 빈 목록을 반환합니다.
+     * 전체 건수는 {@link ActiveUserCounter}의 값을 사용하며, 아직 집계되지 않았다면 count 쿼리로 대체합니다.
      * </p>
      *
      * @return 사용자 목록 (List<UserResponse>)
@@ -118,8 +188,77 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     @Override
     public Page<UserResponse> getAllUser(Pageable pageable) {
-        return userRepository.findAllUserResponse(pageable)
-                .orElse(Page.empty());
+        OptionalLong total = activeUserCounter.getTotal();
+        if (total.isEmpty()) {
+            return userRepository.findAllUserResponse(pageable)
+                    .orElse(Page.empty());
+        }
+
+        return PageableExecutionUtils.getPage(userRepository.findUserResponses(pageable), pageable, total::getAsLong);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<UserResponse> getUserSlice(Pageable pageable) {
+        return userRepository.findUserResponseSlice(pageable);
+    }
+
+    /**
+     * 커서(keyset) 방식으로 사용자 목록을 조회합니다.
+     * <p>
+     * 다음 페이지 존재 여부는 요청 크기보다 한 건 더 조회하여 판단하며, 전체 건수는 조회하지 않습니다.
+     * </p>
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 null
+     * @param size   페이지 크기 (1 ~ 100)
+     * @return 사용자 목록과 다음 커서
+     * @throws BadRequestException 커서 형식이 올바르지 않거나 페이지 크기가 범위를 벗어난 경우
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public UserCursorResponse getUsersByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        List<UserResponse> users = userRepository.findUserResponsesAfter(decodeCursor(cursor), size + 1);
+
+        boolean hasNext = users.size() > size;
+        List<UserResponse> content = hasNext ? users.subList(0, size) : users;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1).getUserNo()) : null;
+
+        return new UserCursorResponse(List.copyOf(content), nextCursor, hasNext);
+    }
+
+    /**
+     * 이메일 목록으로 사용자를 일괄 조회합니다.
+     * <p>
+     * 중복을 제거한 키로 IN 쿼리를 한 번만 실행하고, 결과를 요청 순서대로 다시 정렬합니다.
+     * </p>
+     *
+     * @param userEmails 조회할 이메일 목록
+     * @return 요청 순서대로 정렬된 사용자 목록과 찾지 못한 이메일
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public UserBatchResponse<String> getUsersByEmails(List<String> userEmails) {
+        Set<String> keys = new LinkedHashSet<>(userEmails);
+
+        return toBatchResponse(keys, userRepository.findUserResponsesByUserEmails(keys), UserResponse::getUserEmail);
+    }
+
+    /**
+     * 사용자 번호 목록으로 사용자를 일괄 조회합니다.
+     *
+     * @param userNos 조회할 사용자 번호 목록
+     * @return 요청 순서대로 정렬된 사용자 목록과 찾지 못한 사용자 번호
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public UserBatchResponse<Long> getUsersByUserNos(List<Long> userNos) {
+        Set<Long> keys = new LinkedHashSet<>(userNos);
+
+        return toBatchResponse(keys, userRepository.findUserResponsesByUserNos(keys), UserResponse::getUserNo);
     }
 
     @Transactional(readOnly = true)
@@ -129,17 +268,44 @@ public class UserServiceImpl implements UserService {
                 .orElse(Collections.emptyList());
     }
 
+    /**
+     * 부서의 알림 수신자 목록을 조회합니다.
+     * <p>
+     * 결과는 {@link CacheNames#DEPARTMENT_RECIPIENTS} 캐시에 보관되며,
+     * 가입·정보 수정·탈퇴나 이벤트 레벨, 부서가 바뀌면 전체가 비워집니다.
+     * </p>
+     *
+     * @param departmentId 부서 ID
+     * @param maxPriority  이벤트 레벨 우선순위 상한, null이면 제한 없음
+     * @return 수신자(사용자 번호, 이메일, 연락처) 목록
+     */
+    @Cacheable(cacheNames = CacheNames.DEPARTMENT_RECIPIENTS, key = "#departmentId + ':' + #maxPriority")
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserRecipientResponse> getDepartmentRecipients(String departmentId, Integer maxPriority) {
+        return List.copyOf(userRepository.findRecipients(departmentId, maxPriority));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long countUsersByDepartmentId(String departmentId) {
+        OptionalLong count = activeUserCounter.getDepartmentCount(departmentId);
+
+        return count.isPresent() ? count.getAsLong() : userRepository.countActiveUsersByDepartmentId(departmentId);
+    }
+
     /**
      * 로그인 시 이메일을 통해 사용자 정보를 조회합니다.
      * <p>
      * 비밀번호가 일치하지 않으면 {@link UnauthorizedException}을 발생시킵니다.
+     * 검증에 성공한 해시가 이전 알고리즘이나 낮은 비용이면 그 자리에서 다시 해시해 저장합니다.
      * </p>
      *
      * @param userLoginRequest 로그인 요청 DTO
      * @throws NotFoundException     이메일에 해당하는 사용자가 없을 경우
      * @throws UnauthorizedException 비밀번호 불일치 시
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public void loginUser(UserLoginRequest userLoginRequest) {
         log.debug("로그인 시작! 회원 이메일: {}", userLoginRequest.getUserEmail());
@@ -153,12 +319,32 @@ public class UserServiceImpl implements UserService {
         if (!passwordEncoder.matches(userLoginRequest.getUserPassword(), getUser.getUserPassword())) {
             throw new UnauthorizedException("비밀번호 불일치");
         }
+
+        rehashIfNeeded(getUser, userLoginRequest.getUserPassword());
+    }
+
+    /**
+     * 저장된 해시가 현재 설정(알고리즘, 비용)보다 오래된 방식이면 검증한 평문으로 다시 해시해 저장합니다.
+     * 해시 풀이 혼잡하면 이번 로그인에서는 건너뛰고 다음 로그인에서 다시 시도합니다.
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        String currentPassword = user.getUserPassword();
+        if (!passwordEncoder.upgradeEncoding(currentPassword)) {
+            return;
+        }
+
+        try {
+            userRepository.rehashPassword(user.getUserEmail(), currentPassword, passwordEncoder.encode(rawPassword));
+        } catch (ServiceUnavailableException e) {
+            log.debug("비밀번호 재해시 보류: {}", e.getMessage());
+        }
     }
 
     /**
      * 사용자의 비밀번호를 변경합니다.
      * <p>
      * 비밀번호가 일치하지 않으면 {@link UnauthorizedException}을 발생시킵니다.
+     * 해시 검증과 생성은 트랜잭션 밖에서 수행하고, 저장은 단건 update 쿼리로 처리합니다.
      * </p>
      *
      * @param userEmail             사용자 이메일
@@ -166,6 +352,8 @@ public class UserServiceImpl implements UserService {
      * @throws NotFoundException     사용자가 존재하지 않을 경우
      * @throws UnauthorizedException 비밀번호 불일치 또는 확인 비밀번호 불일치 시
      */
+    @CacheEvict(cacheNames = CacheNames.USER_RESPONSE, key = "#userEmail")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public void changePassword(String userEmail, ChangePasswordRequest changePasswordRequest) {
         User getUser = userRepository.findByUserEmailAndWithdrawalAtIsNull(userEmail)
@@ -175,8 +363,10 @@ public class UserServiceImpl implements UserService {
             throw new UnauthorizedException("비밀번호 불일치");
         }
 
-        getUser.changePassword(passwordEncoder.encode(changePasswordRequest.getNewPassword()));
-        userRepository.save(getUser);
+        String encodePassword = passwordEncoder.encode(changePasswordRequest.getNewPassword());
+        if (userRepository.updatePassword(userEmail, encodePassword, LocalDateTime.now()) == 0) {
+            throw new NotFoundException("해당 userEmail에 해당하는 유저를 찾을 수 없습니다.");
+        }
     }
 
     /**
@@ -189,21 +379,26 @@ public class UserServiceImpl implements UserService {
      * @param userUpdateRequest 사용자 정보 수정 요청 DTO
      * @throws NotFoundException 사용자가 존재하지 않거나 부서가 존재하지 않을 경우
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USER_RESPONSE, key = "#userEmail"),
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENT_RECIPIENTS, allEntries = true)
+    })
     @Override
     public void updateUser(String userEmail, UserUpdateRequest userUpdateRequest) {
         User getUser = userRepository.findByUserEmailAndWithdrawalAtIsNull(userEmail)
                 .orElseThrow(() -> new NotFoundException("해당 userEmail에 해당하는 유저를 찾을 수 없습니다."));
 
-        if (!departmentRepository.existsById(userUpdateRequest.getUserDepartmentId())) {
+        if (!referenceData.existsDepartment(userUpdateRequest.getUserDepartmentId())) {
             throw new NotFoundException("존재하지 않는 부서 아이디");
         }
         Department department = departmentRepository.getReferenceById(userUpdateRequest.getUserDepartmentId());
 
-        if (!eventLevelRepository.existsById(userUpdateRequest.getEventLevel())) {
+        if (!referenceData.existsEventLevel(userUpdateRequest.getEventLevel())) {
             throw new NotFoundException("존재하지 않는 이벤트 레벨");
         }
         EventLevel eventLevel = eventLevelRepository.getReferenceById(userUpdateRequest.getEventLevel());
 
+        activeUserCounter.userMoved(getUser.getDepartment().getDepartmentId(), userUpdateRequest.getUserDepartmentId());
         getUser.updateUser(
                 userUpdateRequest.getUserName(),
                 userUpdateRequest.getUserPhone(),
@@ -223,12 +418,16 @@ public class UserServiceImpl implements UserService {
      * @param userRoleUpdateRequest 권한 업데이트 요청 DTO
      * @throws NotFoundException 권한이 존재하지 않을 경우
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USER_ROLE, key = "#userRoleUpdateRequest.userId"),
+            @CacheEvict(cacheNames = CacheNames.USER_RESPONSE, key = "#userRoleUpdateRequest.userId")
+    })
     @Override
     public void updateUserRole(UserRoleUpdateRequest userRoleUpdateRequest) {
         User getUser = userRepository.findByUserEmailAndWithdrawalAtIsNull(userRoleUpdateRequest.getUserId())
                 .orElseThrow(() -> new NotFoundException("해당 userEmail에 해당하는 유저를 찾을 수 없습니다."));
 
-        if (!roleRepository.existsById(userRoleUpdateRequest.getRoleId())) {
+        if (!referenceData.existsRole(userRoleUpdateRequest.getRoleId())) {
             throw new NotFoundException("해당 RoleId의 권한 찾을 수 없습니다.");
         }
         Role role = roleRepository.getReferenceById(userRoleUpdateRequest.getRoleId());
@@ -247,6 +446,11 @@ public class UserServiceImpl implements UserService {
      * @param userEmail 삭제할 사용자 이메일
      * @throws NotFoundException 사용자가 존재하지 않을 경우
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USER_ROLE, key = "#userEmail"),
+            @CacheEvict(cacheNames = CacheNames.USER_RESPONSE, key = "#userEmail"),
+            @CacheEvict(cacheNames = CacheNames.DEPARTMENT_RECIPIENTS, allEntries = true)
+    })
     @Override
     public void deleteUser(String userEmail) {
         User getUser = userRepository.findByUserEmailAndWithdrawalAtIsNull(userEmail)
@@ -254,10 +458,62 @@ public class UserServiceImpl implements UserService {
 
         getUser.updateWithdrawalAt();
         userRepository.save(getUser);
+        activeUserCounter.userWithdrew(getUser.getDepartment().getDepartmentId());
     }
 
+    /**
+     * 탈퇴하지 않은 사용자 중 이메일이 존재하는지 확인합니다.
+     * <p>
+     * 가입 폼에서 입력마다 호출되고 대부분 없는 이메일이므로, 블룸 필터가 확실히 없다고 답하면 DB를 조회하지 않습니다.
+     * 필터는 인스턴스별이라 다른 인스턴스에서 방금 가입한 이메일을 false로 답할 수 있으며,
+     * 이 경우에도 실제 가입은 이메일 유일 키로 막히므로 결과는 힌트로만 사용해야 합니다.
+     * </p>
+     *
+     * @param userEmail 사용자 이메일
+     * @return 존재하면 true
+     */
     @Override
     public boolean existsByUserEmail(String userEmail) {
+        if (!knownEmailFilter.mightExist(userEmail)) {
+            return false;
+        }
         return userRepository.existsByUserEmailAndWithdrawalAtIsNull(userEmail);
     }
+
+    private static <K> UserBatchResponse<K> toBatchResponse(Set<K> keys, List<UserResponse> found,
+                                                           Function<UserResponse, K> keyExtractor) {
+        Map<K, UserResponse> byKey = found.stream()
+                .collect(Collectors.toMap(keyExtractor, Function.identity(), (first, second) -> first));
+
+        List<UserResponse> users = new ArrayList<>(byKey.size());
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            UserResponse user = byKey.get(key);
+            if (user == null) {
+                missing.add(key);
+            } else {
+                users.add(user);
+            }
+        }
+
+        return new UserBatchResponse<>(users, missing);
+    }
+
+    private static String encodeCursor(Long userNo) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(String.valueOf(userNo).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("올바르지 않은 커서입니다.");
+        }
+    }
 }
@@ -15,6 +15,7 @@ import com.nhnacademy.role.dto.RoleRequest;
 import com.nhnacademy.role.repository.RoleRepository;
 import com.nhnacademy.user.domain.User;
 import com.nhnacademy.user.dto.*;
+import com.nhnacademy.user.lookup.KnownEmailFilter;
 import com.nhnacademy.user.repository.UserRepository;
 import jakarta.ws.rs.core.MediaType;
 import org.junit.jupiter.api.BeforeAll;
@@ -58,6 +59,8 @@ class IntegrationTest {
     @Autowired
     private UserRepository userRepository;
     @Autowired
+    private KnownEmailFilter knownEmailFilter;
+    @Autowired
     private ImageRepository imageRepository;
     @Autowired
     private EventLevelRepository eventLevelRepository;
@@ -73,12 +76,12 @@ class IntegrationTest {
         }
 
         // Role 3개 추가
-        roleRepository.save(new Role("ROLE_MEMBER", "일반 회원"));
+        Role memberRole = roleRepository.save(new Role("ROLE_MEMBER", "일반 회원"));
         roleRepository.save(new Role("ROLE_OWNER", "팀장"));
         roleRepository.save(new Role("ROLE_ADMIN", "관리자"));
 
         // EventLevel 추가
-        eventLevelRepository.save(new EventLevel("INFO", "일반 정보", 1));
+        EventLevel info = eventLevelRepository.save(new EventLevel("INFO", "일반 정보", 1));
         eventLevelRepository.save(new EventLevel("CRITICAL", "치명적 오류", 2));
         eventLevelRepository.save(new EventLevel("WARNING", "위험한 정보", 3));
 
@@ -95,7 +98,9 @@ class IntegrationTest {
                     "user" + i + "@test.com",
                     passwordEncoder.encode("P@ssw0rd" + i),
                     "010-0000-000" + i,
-                    randomDept
+                    randomDept,
+                    memberRole,
+                    info
             );
             if (i == 1) {
                 user.changeRole(new Role("ROLE_MEMBER", "일반 회원"));
@@ -119,11 +124,14 @@ class IntegrationTest {
                 "admin@test.com",
                 "P@ssw0rd",
                 "010-4444-3333",
-                departments.get(1)
+                departments.get(1),
+                memberRole,
+                info
         );
         user.changeRole(new Role("ROLE_ADMIN", "관리자"));
 
         userRepository.save(user);
+        knownEmailFilter.rebuild();
     }
 
     @Test
@@ -0,0 +1,68 @@
+package com.nhnacademy.common.bloom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class ConcurrentBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수 있음으로 판단")
+    void noFalseNegatives() {
+        ConcurrentBloomFilter filter = ConcurrentBloomFilter.create(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertTrue(filter.mightContain("user" + i + "@test.com"));
+        }
+        Assertions.assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    @DisplayName("오탐률은 목표 근처")
+    void falsePositiveRate() {
+        ConcurrentBloomFilter filter = ConcurrentBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("unknown" + i + "@test.com")) {
+                falsePositives++;
+            }
+        }
+
+        Assertions.assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("동시에 추가해도 비트가 유실되지 않는다")
+    void concurrentPut() {
+        ConcurrentBloomFilter filter = ConcurrentBloomFilter.create(80_000, 0.01);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        filter.put("t" + thread + "-" + i);
+                    }
+                });
+            }
+        }
+
+        for (int t = 0; t < 8; t++) {
+            for (int i = 0; i < 10_000; i++) {
+                Assertions.assertTrue(filter.mightContain("t" + t + "-" + i));
+            }
+        }
+        Assertions.assertEquals(80_000, filter.insertions());
+    }
+}
@@ -1,20 +1,23 @@
 package com.nhnacademy.common.filter;
 
 import com.common.AESUtil;
-import com.nhnacademy.user.dto.UserResponse;
+import com.nhnacademy.common.resolver.UserEmailArgumentResolver;
 import com.nhnacademy.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import static org.mockito.Mockito.*;
 
@@ -36,24 +39,28 @@ class AdminAuthorizationFilterTest {
     @Mock
     FilterChain chain;
 
-    @InjectMocks
     AdminAuthorizationFilter filter;
 
+    @BeforeEach
+    void setUp() {
+        UserEmailArgumentResolver userEmailResolver = new UserEmailArgumentResolver(
+                aesUtil, new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), 100, Duration.ofMinutes(1));
+        filter = new AdminAuthorizationFilter(userEmailResolver, userService);
+    }
+
     @Test
     @DisplayName("정상적인 관리자 접근 - 필터 통과")
     void adminAccess_withValidAdminRole_passesThroughFilter() throws ServletException, IOException {
         when(request.getRequestURI()).thenReturn("/admin/dashboard");
         when(request.getHeader("X-User-Id")).thenReturn("encryptedEmail");
         when(aesUtil.decrypt("encryptedEmail")).thenReturn("admin@example.com");
-
-        UserResponse userResponse = mock(UserResponse.class);
-        when(userResponse.getUserRole()).thenReturn("ROLE_ADMIN");
-        when(userService.getUser("admin@example.com")).thenReturn(userResponse);
+        when(userService.getUserRole("admin@example.com")).thenReturn("ROLE_ADMIN");
 
         filter.doFilter(request, response, chain);
 
         verify(chain).doFilter(request, response);
         verify(response, never()).sendError(anyInt(), anyString());
+        verify(userService, never()).getUser(anyString());
     }
 
     @Test
@@ -74,10 +81,7 @@ class AdminAuthorizationFilterTest {
         when(request.getRequestURI()).thenReturn("/admin/dashboard");
         when(request.getHeader("X-User-Id")).thenReturn("encryptedEmail");
         when(aesUtil.decrypt("encryptedEmail")).thenReturn("user@example.com");
-
-        UserResponse userResponse = mock(UserResponse.class);
-        when(userResponse.getUserRole()).thenReturn("ROLE_USER");
-        when(userService.getUser(anyString())).thenReturn(userResponse);
+        when(userService.getUserRole(anyString())).thenReturn("ROLE_USER");
 
         filter.doFilter(request, response, chain);
 
@@ -95,4 +99,19 @@ class AdminAuthorizationFilterTest {
         verify(chain).doFilter(request, response);
         verify(response, never()).sendError(anyInt(), anyString());
     }
+
+    @Test
+    @DisplayName("동일한 암호문 반복 요청 - 복호화는 한 번만 수행")
+    void adminAccess_withSameHeader_decryptsOnce() throws ServletException, IOException {
+        when(request.getRequestURI()).thenReturn("/admin/dashboard");
+        when(request.getHeader("X-User-Id")).thenReturn("encryptedEmail");
+        when(aesUtil.decrypt("encryptedEmail")).thenReturn("admin@example.com");
+        when(userService.getUserRole("admin@example.com")).thenReturn("ROLE_ADMIN");
+
+        filter.doFilter(request, response, chain);
+        filter.doFilter(request, response, chain);
+
+        verify(aesUtil, times(1)).decrypt("encryptedEmail");
+        verify(chain, times(2)).doFilter(request, response);
+    }
 }
@@ -0,0 +1,52 @@
+package com.nhnacademy.common.filter;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    @DisplayName("전달받은 요청 ID를 MDC와 응답 헤더에 사용하고 요청이 끝나면 MDC에서 제거")
+    void propagateRequestId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        request.addHeader(RequestIdFilter.HEADER, "gateway-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> inChain = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                inChain.set(MDC.get(RequestIdFilter.MDC_KEY));
+            }
+        });
+
+        Assertions.assertEquals("gateway-123", inChain.get());
+        Assertions.assertEquals("gateway-123", response.getHeader(RequestIdFilter.HEADER));
+        Assertions.assertNull(MDC.get(RequestIdFilter.MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("요청 ID가 없거나 형식이 맞지 않으면 새로 생성")
+    void generateRequestId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        request.addHeader(RequestIdFilter.HEADER, "bad id\r\nInjected: yes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        String requestId = response.getHeader(RequestIdFilter.HEADER);
+        Assertions.assertNotNull(requestId);
+        Assertions.assertTrue(requestId.matches("[0-9a-f]{32}"));
+    }
+}
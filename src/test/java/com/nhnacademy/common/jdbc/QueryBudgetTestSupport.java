@@ -0,0 +1,134 @@
+package com.nhnacademy.common.jdbc;
+
+import com.common.AESUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
+import com.nhnacademy.department.domain.Department;
+import com.nhnacademy.department.repository.DepartmentRepository;
+import com.nhnacademy.eventlevel.domain.EventLevel;
+import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.image.repository.ImageRepository;
+import com.nhnacademy.role.domain.Role;
+import com.nhnacademy.role.repository.RoleRepository;
+import com.nhnacademy.user.counter.ActiveUserCounter;
+import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.lookup.KnownEmailFilter;
+import com.nhnacademy.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Objects;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수(쿼리 예산) 테스트의 공통 설정입니다.
+ * <p>
+ * 실제 컨텍스트와 MockMvc로 요청을 보내고, 요청 한 건이 실행한 statement 수를 {@link QueryCountAssertions}로 검증합니다.
+ * 예산 테스트끼리 하나의 컨텍스트와 H2 데이터베이스를 공유하도록 설정을 이 클래스에만 둡니다.
+ * 매 테스트마다 기준 데이터를 다시 넣고, 참조 데이터 스냅샷과 사용자 카운터를 재적재한 뒤 모든 캐시를 비웁니다.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class QueryBudgetTestSupport {
+
+    protected static final String PASSWORD = "Password1!";
+    protected static final String MEMBER_EMAIL = "member@test.com";
+    protected static final String ADMIN_EMAIL = "admin@test.com";
+    protected static final String DEPARTMENT_ID = "DEP-001";
+    protected static final String OTHER_DEPARTMENT_ID = "DEP-002";
+
+    @Autowired
+    protected MockMvc mockMvc;
+    @Autowired
+    protected ObjectMapper objectMapper;
+    @Autowired
+    protected AESUtil aesUtil;
+    @Autowired
+    protected PasswordEncoder passwordEncoder;
+    @Autowired
+    protected UserRepository userRepository;
+    @Autowired
+    protected ImageRepository imageRepository;
+    @Autowired
+    protected DepartmentRepository departmentRepository;
+    @Autowired
+    protected RoleRepository roleRepository;
+    @Autowired
+    protected EventLevelRepository eventLevelRepository;
+    @Autowired
+    private ReferenceDataRegistry referenceData;
+    @Autowired
+    private ActiveUserCounter activeUserCounter;
+    @Autowired
+    private KnownEmailFilter knownEmailFilter;
+    @Autowired
+    private CacheManager cacheManager;
+
+    protected User member;
+    protected User admin;
+
+    @BeforeEach
+    void seed() {
+        Role memberRole = roleRepository.save(new Role(User.DEFAULT_ROLE_ID, "멤버"));
+        Role adminRole = roleRepository.save(new Role("ROLE_ADMIN", "관리자"));
+        roleRepository.save(new Role("ROLE_GUEST", "게스트"));
+        EventLevel info = eventLevelRepository.save(new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1));
+        eventLevelRepository.save(new EventLevel("WARN", "경고", 2));
+        Department department = departmentRepository.save(new Department(DEPARTMENT_ID, "개발팀", null, null));
+        departmentRepository.save(new Department(OTHER_DEPARTMENT_ID, "운영팀", null, null));
+
+        String encoded = passwordEncoder.encode(PASSWORD);
+        member = userRepository.save(User.ofNewMember("멤버", MEMBER_EMAIL, encoded, "010-1111-1111",
+                department, memberRole, info));
+        admin = userRepository.save(User.ofNewMember("관리자", ADMIN_EMAIL, encoded, "010-2222-2222",
+                department, adminRole, info));
+
+        referenceData.reconcile();
+        activeUserCounter.reconcile();
+        knownEmailFilter.rebuild();
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+        QueryCountAssertions.reset();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllInBatch();
+        imageRepository.deleteAllInBatch();
+        departmentRepository.deleteAllInBatch();
+        eventLevelRepository.deleteAllInBatch();
+        roleRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 집계를 비운 뒤 요청을 실행합니다. 반환 이후의 집계는 이 요청 한 건의 SQL만 포함합니다.
+     */
+    protected ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        QueryCountAssertions.reset();
+        return mockMvc.perform(request);
+    }
+
+    protected String userId(String email) {
+        return aesUtil.encrypt(email);
+    }
+
+    protected String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+}
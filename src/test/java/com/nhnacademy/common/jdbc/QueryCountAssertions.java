@@ -0,0 +1,64 @@
+package com.nhnacademy.common.jdbc;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수를 검증하는 테스트 유틸리티입니다.
+ * <p>
+ * {@link DataSourceProxyPostProcessor}가 적용된 컨텍스트({@code user.jdbc.proxy.enabled=true})에서만 의미가 있습니다.
+ * 검증 전에 {@link #reset()}으로 집계를 비우고 검증할 동작을 실행합니다.
+ * </p>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void reset() {
+        QueryCountHolder.clear();
+    }
+
+    public static void assertSelectCount(long expected) {
+        Assertions.assertEquals(expected, current().getSelect(), () -> "select 횟수 불일치 " + describe());
+    }
+
+    public static void assertInsertCount(long expected) {
+        Assertions.assertEquals(expected, current().getInsert(), () -> "insert 횟수 불일치 " + describe());
+    }
+
+    public static void assertUpdateCount(long expected) {
+        Assertions.assertEquals(expected, current().getUpdate(), () -> "update 횟수 불일치 " + describe());
+    }
+
+    public static void assertDeleteCount(long expected) {
+        Assertions.assertEquals(expected, current().getDelete(), () -> "delete 횟수 불일치 " + describe());
+    }
+
+    /**
+     * 실행된 전체 statement 수가 상한 이하인지 검증합니다.
+     *
+     * @param budget 허용하는 최대 statement 수
+     */
+    public static void assertTotalCountAtMost(long budget) {
+        long total = current().getTotal();
+        Assertions.assertTrue(total <= budget,
+                () -> "SQL 실행 횟수가 예산(" + budget + ")을 초과했습니다. " + describe());
+    }
+
+    private static QueryCount current() {
+        QueryCount count = QueryCountHolder.get(DataSourceProxyPostProcessor.DATA_SOURCE_NAME);
+        return count == null ? new QueryCount() : count;
+    }
+
+    private static String describe() {
+        QueryCount count = current();
+        return "[total=" + count.getTotal()
+                + ", select=" + count.getSelect()
+                + ", insert=" + count.getInsert()
+                + ", update=" + count.getUpdate()
+                + ", delete=" + count.getDelete()
+                + ", other=" + count.getOther() + "]";
+    }
+}
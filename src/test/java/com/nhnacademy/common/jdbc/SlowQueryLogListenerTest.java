@@ -0,0 +1,86 @@
+package com.nhnacademy.common.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryLogListenerTest {
+
+    private static final String SQL = "select u.user_no\n  from users u\n where u.user_email = ? and u.user_no > ?";
+
+    @Test
+    @DisplayName("임계값 미만의 쿼리는 기록하지 않음")
+    void belowThreshold(CapturedOutput output) throws Exception {
+        SlowQueryLogListener listener = listener(1.0, SlowQueryLogListener.ParameterMode.REDACTED);
+
+        listener.afterQuery(execution(499), List.of(query()));
+
+        Assertions.assertFalse(output.getOut().contains("느린 쿼리"));
+    }
+
+    @Test
+    @DisplayName("느린 쿼리는 한 줄로 기록하고 문자열 파라미터는 가림")
+    void redacted(CapturedOutput output) throws Exception {
+        SlowQueryLogListener listener = listener(1.0, SlowQueryLogListener.ParameterMode.REDACTED);
+
+        listener.afterQuery(execution(700), List.of(query()));
+
+        Assertions.assertTrue(output.getOut().contains("느린 쿼리 700ms"));
+        Assertions.assertTrue(output.getOut().contains("from users u where u.user_email = ?"));
+        Assertions.assertTrue(output.getOut().contains("['***'(14), 42]"));
+        Assertions.assertFalse(output.getOut().contains("test@email.com"));
+    }
+
+    @Test
+    @DisplayName("NONE 모드에서는 파라미터를 출력하지 않음")
+    void noParameters(CapturedOutput output) throws Exception {
+        SlowQueryLogListener listener = listener(1.0, SlowQueryLogListener.ParameterMode.NONE);
+
+        listener.afterQuery(execution(700), List.of(query()));
+
+        Assertions.assertTrue(output.getOut().contains("params=[]"));
+        Assertions.assertFalse(output.getOut().contains("42]"));
+    }
+
+    @Test
+    @DisplayName("샘플링에서 제외된 쿼리는 기록하지 않음")
+    void sampledOut(CapturedOutput output) throws Exception {
+        SlowQueryLogListener listener = listener(0.0, SlowQueryLogListener.ParameterMode.REDACTED);
+
+        listener.afterQuery(execution(700), List.of(query()));
+
+        Assertions.assertFalse(output.getOut().contains("느린 쿼리"));
+    }
+
+    private static SlowQueryLogListener listener(double sampleRate, SlowQueryLogListener.ParameterMode mode) {
+        return new SlowQueryLogListener(Duration.ofMillis(500), sampleRate, mode, 1000);
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        return executionInfo;
+    }
+
+    private static QueryInfo query() throws NoSuchMethodException {
+        QueryInfo queryInfo = new QueryInfo(SQL);
+        queryInfo.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                        new Object[]{1, "test@email.com"}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                        new Object[]{2, 42L})
+        ));
+        return queryInfo;
+    }
+}
@@ -0,0 +1,60 @@
+package com.nhnacademy.common.logging;
+
+import com.nhnacademy.common.config.SecurityConfig;
+import com.nhnacademy.common.filter.RequestIdFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 풀을 가진 {@link SecurityConfig}와 함께 떠도 Spring Boot가 {@code applicationTaskExecutor}를 만들고
+ * {@link MdcTaskDecorator}를 적용하는지 확인합니다.
+ */
+@SpringBootTest(classes = {SecurityConfig.class, MdcTaskDecorator.class},
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "aes.secret.key=TestAESKey123456789012345678901234567890123")
+@ImportAutoConfiguration(TaskExecutionAutoConfiguration.class)
+class MdcTaskDecoratorTest {
+
+    @Autowired
+    AsyncTaskExecutor applicationTaskExecutor;
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("applicationTaskExecutor - 제출한 스레드의 요청 ID를 실행 스레드로 전달")
+    void applicationTaskExecutor_propagatesRequestId() throws Exception {
+        MDC.put(RequestIdFilter.MDC_KEY, "request-1");
+
+        String requestId = CompletableFuture
+                .supplyAsync(() -> MDC.get(RequestIdFilter.MDC_KEY), applicationTaskExecutor)
+                .get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("request-1", requestId);
+    }
+
+    @Test
+    @DisplayName("실행이 끝나면 풀 스레드의 MDC를 원래대로 복원")
+    void decorate_restoresPreviousContext() {
+        MDC.put(RequestIdFilter.MDC_KEY, "request-1");
+        Runnable task = new MdcTaskDecorator().decorate(() -> Assertions.assertEquals("request-1", MDC.get(RequestIdFilter.MDC_KEY)));
+
+        MDC.put(RequestIdFilter.MDC_KEY, "pool-thread");
+        task.run();
+
+        Assertions.assertEquals("pool-thread", MDC.get(RequestIdFilter.MDC_KEY));
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitedTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private RateLimitedTurboFilter filter;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitedTurboFilter();
+        filter.setLoggerPrefix("com.nhnacademy");
+        filter.setMaxPerInterval(2);
+        filter.setIntervalMillis(60_000);
+        filter.start();
+
+        logger = context.getLogger("com.nhnacademy.common.filter.AdminAuthorizationFilter");
+        logger.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    @DisplayName("같은 형식의 INFO 로그는 구간당 허용 건수까지만 통과")
+    void limitSameFormat() {
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "adminFilter in: {}"));
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "adminFilter in: {}"));
+        Assertions.assertEquals(FilterReply.DENY, decide(Level.INFO, "adminFilter in: {}"));
+
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "다른 메시지: {}"));
+    }
+
+    @Test
+    @DisplayName("WARN/ERROR는 제한하지 않음")
+    void neverLimitWarnOrError() {
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(FilterReply.NEUTRAL, decide(Level.WARN, "경고: {}"));
+            Assertions.assertEquals(FilterReply.NEUTRAL, decide(Level.ERROR, "오류: {}"));
+        }
+    }
+
+    @Test
+    @DisplayName("대상 패키지 밖의 로거와 비활성 레벨은 집계하지 않음")
+    void ignoreOtherLoggersAndDisabledLevels() {
+        Logger other = context.getLogger("org.hibernate.SQL");
+        other.setLevel(Level.DEBUG);
+        logger.setLevel(Level.INFO);
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(FilterReply.NEUTRAL,
+                    filter.decide(null, other, Level.DEBUG, "select ...", null, null));
+            Assertions.assertEquals(FilterReply.NEUTRAL, decide(Level.DEBUG, "디버그: {}"));
+        }
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "디버그: {}"));
+    }
+
+    private FilterReply decide(Level level, String format) {
+        return filter.decide(null, logger, level, format, new Object[]{"/admin/users"}, null);
+    }
+}
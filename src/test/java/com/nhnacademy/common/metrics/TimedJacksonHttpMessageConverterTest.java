@@ -0,0 +1,48 @@
+package com.nhnacademy.common.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.Map;
+
+class TimedJacksonHttpMessageConverterTest {
+
+    @Test
+    @DisplayName("응답 직렬화 시 타입 태그가 붙은 타이머에 기록")
+    void writeRecordsTimer() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimedJacksonHttpMessageConverter converter = new TimedJacksonHttpMessageConverter(new ObjectMapper(), registry);
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(new Sample("test@test.com"), MediaType.APPLICATION_JSON, outputMessage);
+
+        Assertions.assertEquals("{\"userEmail\":\"test@test.com\"}", outputMessage.getBodyAsString());
+        Timer timer = registry.find("user.http.serialization").tag("type", "Sample").timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("타입마다 별도 타이머로 기록")
+    void separateTimerPerType() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimedJacksonHttpMessageConverter converter = new TimedJacksonHttpMessageConverter(new ObjectMapper(), registry);
+
+        converter.write(new Sample("a@test.com"), MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+        converter.write(new Sample("b@test.com"), MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+        converter.write(Map.of("k", "v"), MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+
+        Assertions.assertEquals(2, registry.find("user.http.serialization").tag("type", "Sample").timer().count());
+        Assertions.assertEquals(2, registry.find("user.http.serialization").timers().size());
+    }
+
+    record Sample(String userEmail) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.nhnacademy.common.ratelimit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final SlidingWindowRateLimiter limiter =
+            new SlidingWindowRateLimiter(new InMemoryRateLimitStore(1000, WINDOW), 3, WINDOW, clock);
+
+    @Test
+    @DisplayName("한도까지 허용하고 초과하면 재시도 시간을 반환")
+    void rejectOverLimit() {
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(Duration.ZERO, limiter.tryAcquire("key"));
+        }
+
+        Duration retryAfter = limiter.tryAcquire("key");
+
+        Assertions.assertTrue(retryAfter.compareTo(Duration.ZERO) > 0);
+        Assertions.assertTrue(retryAfter.compareTo(WINDOW.multipliedBy(2)) <= 0);
+        Assertions.assertEquals(Duration.ZERO, limiter.tryAcquire("other"));
+    }
+
+    @Test
+    @DisplayName("윈도 경계를 넘어도 직전 윈도 카운트가 가중치만큼 남는다")
+    void slidingAcrossBoundary() {
+        clock.advance(Duration.ofSeconds(50));
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("key");
+        }
+
+        // 다음 윈도 시작 직후: 직전 윈도 3회가 거의 그대로 반영되어 거절
+        clock.advance(Duration.ofSeconds(15));
+        Assertions.assertNotEquals(Duration.ZERO, limiter.tryAcquire("key"));
+    }
+
+    @Test
+    @DisplayName("재시도 시간이 지나면 다시 허용")
+    void allowAfterRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("key");
+        }
+        Duration retryAfter = limiter.tryAcquire("key");
+
+        clock.advance(retryAfter.plusSeconds(1));
+
+        Assertions.assertEquals(Duration.ZERO, limiter.tryAcquire("key"));
+    }
+
+    @Test
+    @DisplayName("동시에 증가해도 카운트가 유실되지 않는다")
+    void concurrentIncrements() throws InterruptedException {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(1000, WINDOW);
+        AtomicInteger done = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        store.increment("key", 1);
+                    }
+                    done.incrementAndGet();
+                });
+            }
+        }
+
+        Assertions.assertEquals(8, done.get());
+        Assertions.assertEquals(new RateLimitStore.WindowCounts(0, 8001), store.increment("key", 1));
+        Assertions.assertEquals(new RateLimitStore.WindowCounts(8001, 1), store.increment("key", 2));
+        Assertions.assertEquals(new RateLimitStore.WindowCounts(0, 1), store.increment("key", 4));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
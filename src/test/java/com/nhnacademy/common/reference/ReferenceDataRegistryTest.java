@@ -0,0 +1,132 @@
+package com.nhnacademy.common.reference;
+
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.department.repository.DepartmentRepository;
+import com.nhnacademy.eventlevel.dto.EventLevelResponse;
+import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.role.dto.RoleResponse;
+import com.nhnacademy.role.repository.RoleRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ReferenceDataRegistryTest {
+    @Mock
+    RoleRepository roleRepository;
+
+    @Mock
+    DepartmentRepository departmentRepository;
+
+    @Mock
+    EventLevelRepository eventLevelRepository;
+
+    @InjectMocks
+    ReferenceDataRegistry referenceData;
+
+    @BeforeEach
+    void setUp() {
+        when(roleRepository.findAllRole()).thenReturn(Optional.of(List.of(new RoleResponse("ROLE_MEMBER", "멤버"))));
+        when(departmentRepository.findAllDepartment()).thenReturn(Optional.of(List.of(new DepartmentResponse("DEP-001", "개발팀"))));
+        when(eventLevelRepository.findAllEventLevel()).thenReturn(Optional.of(List.of(new EventLevelResponse("INFO", "일반 정보", 1))));
+    }
+
+    @Test
+    @DisplayName("목록 조회는 최초 한 번만 DB를 조회")
+    void getDepartments() {
+        Assertions.assertEquals(1, referenceData.getDepartments().size());
+        Assertions.assertEquals(1, referenceData.getDepartments().size());
+
+        verify(departmentRepository, times(1)).findAllDepartment();
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 ID는 DB 조회 없이 확인")
+    void existsDepartment_hit() {
+        Assertions.assertTrue(referenceData.existsDepartment("DEP-001"));
+
+        verify(departmentRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 ID는 DB에서 확인 후 목록을 다시 읽음")
+    void existsDepartment_miss() {
+        referenceData.reconcile();
+        when(departmentRepository.existsById("DEP-002")).thenReturn(true);
+        when(departmentRepository.findAllDepartment()).thenReturn(Optional.of(List.of(
+                new DepartmentResponse("DEP-001", "개발팀"),
+                new DepartmentResponse("DEP-002", "운영팀")
+        )));
+
+        Assertions.assertTrue(referenceData.existsDepartment("DEP-002"));
+        Assertions.assertTrue(referenceData.findDepartment("DEP-002").isPresent());
+        Assertions.assertEquals(1, referenceData.getRoles().size());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 ID")
+    void existsRole_notFound() {
+        when(roleRepository.existsById(anyString())).thenReturn(false);
+
+        Assertions.assertFalse(referenceData.existsRole("ROLE_UNKNOWN"));
+    }
+
+    @Test
+    @DisplayName("변경 알림 후 해당 테이블만 다시 읽음")
+    void eventLevelsChanged() {
+        referenceData.reconcile();
+        when(eventLevelRepository.findAllEventLevel()).thenReturn(Optional.of(List.of(
+                new EventLevelResponse("INFO", "일반 정보", 1),
+                new EventLevelResponse("WARN", "경고", 2)
+        )));
+
+        referenceData.eventLevelsChanged();
+
+        Assertions.assertEquals(2, referenceData.getEventLevels().size());
+        verify(roleRepository, times(1)).findAllRole();
+    }
+
+    @Test
+    @DisplayName("내용이 바뀐 테이블만 ETag가 바뀜")
+    void eTagChangesOnlyWhenContentChanges() {
+        referenceData.reconcile();
+        String rolesETag = referenceData.getRolesETag();
+        String departmentsETag = referenceData.getDepartmentsETag();
+
+        referenceData.reconcile();
+        Assertions.assertEquals(rolesETag, referenceData.getRolesETag());
+
+        when(departmentRepository.findAllDepartment()).thenReturn(Optional.of(List.of(new DepartmentResponse("DEP-001", "플랫폼팀"))));
+        referenceData.reconcile();
+
+        Assertions.assertEquals(rolesETag, referenceData.getRolesETag());
+        Assertions.assertNotEquals(departmentsETag, referenceData.getDepartmentsETag());
+    }
+
+    @Test
+    @DisplayName("ETag는 내용에서 계산하므로 다른 인스턴스에서도 같은 내용이면 일치")
+    void eTagMatchesAcrossInstances() {
+        ReferenceDataRegistry otherInstance = new ReferenceDataRegistry(roleRepository, departmentRepository, eventLevelRepository);
+        referenceData.reconcile();
+        when(roleRepository.findAllRole()).thenReturn(Optional.of(List.of(new RoleResponse("ROLE_MEMBER", "회원"))));
+        referenceData.reconcile();
+        when(roleRepository.findAllRole()).thenReturn(Optional.of(List.of(new RoleResponse("ROLE_MEMBER", "멤버"))));
+        referenceData.reconcile();
+
+        otherInstance.reconcile();
+
+        Assertions.assertEquals(referenceData.getRolesETag(), otherInstance.getRolesETag());
+        Assertions.assertEquals(referenceData.getDepartmentsETag(), otherInstance.getDepartmentsETag());
+        Assertions.assertEquals(referenceData.getEventLevelsETag(), otherInstance.getEventLevelsETag());
+    }
+}
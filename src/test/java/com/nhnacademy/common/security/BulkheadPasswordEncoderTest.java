@@ -0,0 +1,97 @@
+package com.nhnacademy.common.security;
+
+import com.nhnacademy.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+class BulkheadPasswordEncoderTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("해시 작업을 위임 인코더로 전달")
+    void delegate() {
+        PasswordEncoder encoder = new BulkheadPasswordEncoder(new PlainEncoder(null), executor, Duration.ofSeconds(1));
+
+        Assertions.assertEquals("{plain}password", encoder.encode("password"));
+        Assertions.assertTrue(encoder.matches("password", "{plain}password"));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절")
+    void rejectWhenQueueFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PlainEncoder(release);
+        PasswordEncoder encoder = new BulkheadPasswordEncoder(blocking, executor, Duration.ofSeconds(1));
+
+        // 실행 중인 작업 1개 + 대기열 1개로 풀을 가득 채웁니다.
+        executor.submit(() -> blocking.encode("first"));
+        executor.submit(() -> blocking.encode("second"));
+
+        Assertions.assertThrows(ServiceUnavailableException.class, () -> encoder.matches("password", "{plain}password"));
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되면 거절")
+    void rejectWhenTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder encoder = new BulkheadPasswordEncoder(new PlainEncoder(release), executor, Duration.ofMillis(50));
+
+        Assertions.assertThrows(ServiceUnavailableException.class, () -> encoder.encode("password"));
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("일괄 해시 - 동시 작업 수를 제한해 작은 풀에서도 거절 없이 입력 순서대로 반환")
+    void encodeAll() {
+        BulkheadPasswordEncoder encoder = new BulkheadPasswordEncoder(new PlainEncoder(null), executor, Duration.ofSeconds(1));
+
+        List<String> encoded = encoder.encodeAll(List.of("a", "b", "c", "d", "e"), 1);
+
+        Assertions.assertEquals(List.of("{plain}a", "{plain}b", "{plain}c", "{plain}d", "{plain}e"), encoded);
+    }
+
+    private record PlainEncoder(CountDownLatch latch) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+
+        private void await() {
+            if (latch == null) {
+                return;
+            }
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
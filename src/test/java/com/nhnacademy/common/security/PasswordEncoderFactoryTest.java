@@ -0,0 +1,72 @@
+package com.nhnacademy.common.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+class PasswordEncoderFactoryTest {
+
+    private static final String PASSWORD = "P@ssw0rd";
+
+    @Test
+    @DisplayName("새 해시에는 설정한 알고리즘의 접두사를 붙인다")
+    void encodeWithPrefix() {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(PasswordHashAlgorithm.PBKDF2, 1_000);
+
+        String encoded = encoder.encode(PASSWORD);
+
+        Assertions.assertTrue(encoded.startsWith("{pbkdf2}"));
+        Assertions.assertTrue(encoder.matches(PASSWORD, encoded));
+        Assertions.assertFalse(encoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt 해시는 검증되고 재해시 대상이다")
+    void legacyBcryptHash() {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(PasswordHashAlgorithm.BCRYPT, 4);
+        String legacy = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        Assertions.assertTrue(encoder.matches(PASSWORD, legacy));
+        Assertions.assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    @DisplayName("다른 알고리즘으로 저장된 해시도 검증하고 재해시 대상으로 표시한다")
+    void otherAlgorithmHash() {
+        String pbkdf2 = PasswordEncoderFactory.create(PasswordHashAlgorithm.PBKDF2, 1_000).encode(PASSWORD);
+        PasswordEncoder encoder = PasswordEncoderFactory.create(PasswordHashAlgorithm.BCRYPT, 4);
+
+        Assertions.assertTrue(encoder.matches(PASSWORD, pbkdf2));
+        Assertions.assertTrue(encoder.upgradeEncoding(pbkdf2));
+    }
+
+    @Test
+    @DisplayName("BCrypt 비용이 설정보다 낮으면 재해시 대상이다")
+    void lowerBcryptCost() {
+        String weak = PasswordEncoderFactory.create(PasswordHashAlgorithm.BCRYPT, 4).encode(PASSWORD);
+        PasswordEncoder encoder = PasswordEncoderFactory.create(PasswordHashAlgorithm.BCRYPT, 5);
+
+        Assertions.assertTrue(encoder.matches(PASSWORD, weak));
+        Assertions.assertTrue(encoder.upgradeEncoding(weak));
+    }
+
+    @Test
+    @DisplayName("보정 결과는 최소 비용과 알고리즘 최대 비용 사이")
+    void calibrateWithinBounds() {
+        Assertions.assertEquals(4, PasswordEncoderFactory.calibrate(PasswordHashAlgorithm.BCRYPT, 4, Duration.ofNanos(1)));
+
+        int cost = PasswordEncoderFactory.calibrate(PasswordHashAlgorithm.BCRYPT, 4, Duration.ofMillis(20));
+        Assertions.assertTrue(cost >= 4 && cost <= PasswordHashAlgorithm.BCRYPT.maxCost());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 알고리즘 이름은 거절")
+    void unknownAlgorithm() {
+        Assertions.assertEquals(PasswordHashAlgorithm.ARGON2, PasswordHashAlgorithm.of("Argon2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PasswordHashAlgorithm.of("md5"));
+    }
+}
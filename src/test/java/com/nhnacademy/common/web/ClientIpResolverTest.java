@@ -0,0 +1,54 @@
+package com.nhnacademy.common.web;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver("");
+
+    @Test
+    @DisplayName("헤더 없음 - 접속 주소 반환")
+    void resolve_withoutHeader_returnsRemoteAddr() {
+        Assertions.assertEquals("10.0.0.5", resolver.resolve(request("10.0.0.5", null)));
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시 - 오른쪽부터 신뢰하지 않는 첫 주소 반환")
+    void resolve_fromTrustedProxy_returnsFirstUntrustedHop() {
+        Assertions.assertEquals("203.0.113.1",
+                resolver.resolve(request("10.0.0.5", "198.51.100.9, 203.0.113.1, 192.168.0.3")));
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 접속 주소 - 위조 헤더 무시")
+    void resolve_fromUntrustedPeer_ignoresHeader() {
+        Assertions.assertEquals("198.51.100.7", resolver.resolve(request("198.51.100.7", "203.0.113.1")));
+    }
+
+    @Test
+    @DisplayName("모든 주소가 내부 대역 - 가장 왼쪽 주소 반환")
+    void resolve_allHopsTrusted_returnsLeftmostHop() {
+        Assertions.assertEquals("172.16.0.2", resolver.resolve(request("10.0.0.5", "172.16.0.2, 10.0.0.9")));
+    }
+
+    @Test
+    @DisplayName("설정한 프록시 목록 - 기본 내부 대역 대신 사용")
+    void resolve_withConfiguredProxies_trustsOnlyThem() {
+        ClientIpResolver configured = new ClientIpResolver("10\\.0\\.0\\.5");
+
+        Assertions.assertEquals("203.0.113.1", configured.resolve(request("10.0.0.5", "203.0.113.1")));
+        Assertions.assertEquals("10.0.0.6", configured.resolve(request("10.0.0.6", "203.0.113.1")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.nhnacademy.department.controller;
+
+import com.nhnacademy.common.jdbc.QueryBudgetTestSupport;
+import com.nhnacademy.common.jdbc.QueryCountAssertions;
+import com.nhnacademy.department.dto.DepartmentDashboardDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DepartmentControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    @DisplayName("부서 전체 조회 - 스냅샷에서 응답하여 DB 조회 없음")
+    void getAllDepartment() throws Exception {
+        perform(get("/departments/all"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(0);
+    }
+
+    @Test
+    @DisplayName("부서 단건 조회 - 스냅샷에서 응답하여 DB 조회 없음")
+    void getDepartment() throws Exception {
+        perform(get("/departments/{departmentId}", DEPARTMENT_ID))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(0);
+    }
+
+    @Test
+    @DisplayName("메인 대시보드 조회 - select 1회")
+    void getDepartmentDashboard() throws Exception {
+        perform(get("/main/dashboard/{department-id}", DEPARTMENT_ID))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(1);
+    }
+
+    @Test
+    @DisplayName("메인 대시보드 변경 - select 1회, update 1회")
+    void updateMainDashboard() throws Exception {
+        DepartmentDashboardDTO request = new DepartmentDashboardDTO("dashboard-uid", "메인 대시보드", DEPARTMENT_ID);
+
+        perform(post("/main/dashboard")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+}
@@ -1,6 +1,7 @@
 package com.nhnacademy.department.controller;
 
 import com.common.AESUtil;
+import com.nhnacademy.common.web.ConditionalResponses;
 import com.nhnacademy.department.dto.DepartmentResponse;
 import com.nhnacademy.department.service.DepartmentService;
 import com.nhnacademy.user.service.UserService;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -18,10 +20,12 @@ import java.util.stream.IntStream;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DepartmentController.class)
+@Import(ConditionalResponses.class)
 @AutoConfigureMockMvc
 class DepartmentControllerTest {
     @Autowired
@@ -48,15 +52,31 @@ class DepartmentControllerTest {
                 .toList();
 
         when(departmentService.getAllDepartment()).thenReturn(departmentResponses);
+        when(departmentService.getAllDepartmentETag()).thenReturn("\"departments-test-1\"");
 
-        mockMvc.perform(get("/departments")
+        mockMvc.perform(get("/departments/all")
                         .accept(org.springframework.http.MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"departments-test-1\""))
                 .andDo(print());
 
         verify(departmentService, times(1)).getAllDepartment();
     }
 
+    @Test
+    @DisplayName("모든 부서 조회 - ETag 일치 시 304 반환")
+    void getAllDepartment_304() throws Exception {
+        when(departmentService.getAllDepartmentETag()).thenReturn("\"departments-test-1\"");
+
+        mockMvc.perform(get("/departments/all")
+                        .header("If-None-Match", "\"departments-test-1\"")
+                        .accept(org.springframework.http.MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andDo(print());
+
+        verify(departmentService, never()).getAllDepartment();
+    }
+
     @Test
     @DisplayName("부서ID에 따른 조회 - 200 반환")
     void getDepartmentByDepartmentId_200() throws Exception {
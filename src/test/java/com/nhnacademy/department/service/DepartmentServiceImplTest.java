@@ -2,6 +2,7 @@ package com.nhnacademy.department.service;
 
 import com.nhnacademy.common.exception.ConflictException;
 import com.nhnacademy.common.exception.NotFoundException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
 import com.nhnacademy.department.domain.Department;
 import com.nhnacademy.department.dto.DepartmentRequest;
 import com.nhnacademy.department.dto.DepartmentResponse;
@@ -26,6 +27,9 @@ class DepartmentServiceImplTest {
     @Mock
     DepartmentRepository departmentRepository;
 
+    @Mock
+    ReferenceDataRegistry referenceData;
+
     @InjectMocks
     DepartmentServiceImpl departmentService;
 
@@ -36,11 +40,12 @@ class DepartmentServiceImplTest {
                 .mapToObj(i -> new DepartmentResponse("D" + i, "부서" + i))
                 .toList();
 
-        when(departmentRepository.findAllDepartment()).thenReturn(Optional.of(departmentResponses));
+        when(referenceData.getDepartments()).thenReturn(departmentResponses);
 
         List<DepartmentResponse> result = departmentService.getAllDepartment();
 
-        verify(departmentRepository, times(1)).findAllDepartment();
+        verify(referenceData, times(1)).getDepartments();
+        verify(departmentRepository, never()).findAllDepartment();
 
         Assertions.assertEquals(10, result.size());
     }
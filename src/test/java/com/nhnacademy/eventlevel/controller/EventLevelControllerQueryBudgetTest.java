@@ -0,0 +1,30 @@
+package com.nhnacademy.eventlevel.controller;
+
+import com.nhnacademy.common.jdbc.QueryBudgetTestSupport;
+import com.nhnacademy.common.jdbc.QueryCountAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EventLevelControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    @DisplayName("이벤트 레벨 전체 조회 - 스냅샷에서 응답하여 DB 조회 없음")
+    void getAllEventLevel() throws Exception {
+        perform(get("/event-levels"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(0);
+    }
+
+    @Test
+    @DisplayName("이벤트 레벨 단건 조회 - 스냅샷에서 응답하여 DB 조회 없음")
+    void getEventLevel() throws Exception {
+        perform(get("/event-levels/{levelName}", "INFO"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(0);
+    }
+}
@@ -1,6 +1,7 @@
 package com.nhnacademy.eventlevel.controller;
 
 import com.common.AESUtil;
+import com.nhnacademy.common.web.ConditionalResponses;
 import com.nhnacademy.eventlevel.dto.EventLevelResponse;
 import com.nhnacademy.eventlevel.service.EventLevelService;
 import com.nhnacademy.user.service.UserService;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -18,10 +20,12 @@ import java.util.stream.IntStream;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EventLevelController.class)
+@Import(ConditionalResponses.class)
 @AutoConfigureMockMvc
 class EventLevelControllerTest {
 
@@ -45,15 +49,31 @@ class EventLevelControllerTest {
                 .toList();
 
         when(eventLevelService.getAllEventLevel()).thenReturn(responses);
+        when(eventLevelService.getAllEventLevelETag()).thenReturn("\"event-levels-test-1\"");
 
         mockMvc.perform(get("/event-levels")
                         .accept(org.springframework.http.MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"event-levels-test-1\""))
                 .andDo(print());
 
         verify(eventLevelService, times(1)).getAllEventLevel();
     }
 
+    @Test
+    @DisplayName("모든 이벤트 레벨 조회 - ETag 일치 시 304 반환")
+    void getAllEventLevel_304() throws Exception {
+        when(eventLevelService.getAllEventLevelETag()).thenReturn("\"event-levels-test-1\"");
+
+        mockMvc.perform(get("/event-levels")
+                        .header("If-None-Match", "\"event-levels-test-1\"")
+                        .accept(org.springframework.http.MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andDo(print());
+
+        verify(eventLevelService, never()).getAllEventLevel();
+    }
+
     @Test
     @DisplayName("이벤트 레벨명으로 조회 - 200 반환")
     void getEventLevelByLevelName_200() throws Exception {
@@ -2,6 +2,7 @@ package com.nhnacademy.eventlevel.service;
 
 import com.nhnacademy.common.exception.ConflictException;
 import com.nhnacademy.common.exception.NotFoundException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
 import com.nhnacademy.eventlevel.domain.EventLevel;
 import com.nhnacademy.eventlevel.dto.EventLevelRequest;
 import com.nhnacademy.eventlevel.dto.EventLevelResponse;
@@ -26,6 +27,9 @@ class EventLevelServiceImplTest {
     @Mock
     EventLevelRepository eventLevelRepository;
 
+    @Mock
+    ReferenceDataRegistry referenceData;
+
     @InjectMocks
     EventLevelServiceImpl eventLevelService;
 
@@ -36,11 +40,12 @@ class EventLevelServiceImplTest {
                 .mapToObj(i -> new EventLevelResponse("L" + i, "레벨 설명 " + i, i))
                 .toList();
 
-        when(eventLevelRepository.findAllEventLevel()).thenReturn(Optional.of(eventLevelResponses));
+        when(referenceData.getEventLevels()).thenReturn(eventLevelResponses);
 
         List<EventLevelResponse> result = eventLevelService.getAllEventLevel();
 
-        verify(eventLevelRepository, times(1)).findAllEventLevel();
+        verify(referenceData, times(1)).getEventLevels();
+        verify(eventLevelRepository, never()).findAllEventLevel();
         Assertions.assertEquals(5, result.size());
     }
 
@@ -0,0 +1,67 @@
+package com.nhnacademy.image.controller;
+
+import com.nhnacademy.common.jdbc.QueryBudgetTestSupport;
+import com.nhnacademy.common.jdbc.QueryCountAssertions;
+import com.nhnacademy.image.domain.Image;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ImageControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    @DisplayName("프로필 이미지 조회 - 사용자와 이미지를 join한 select 1회")
+    void getImage() throws Exception {
+        attachImage();
+
+        perform(get("/images/{userEmail}", MEMBER_EMAIL))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(1);
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 등록 - 사용자 select, 이미지 insert, 사용자 update")
+    void createImage() throws Exception {
+        perform(post("/images")
+                .param("userEmail", MEMBER_EMAIL)
+                .param("imagePath", "/images/new.png"))
+                .andExpect(status().isCreated());
+
+        QueryCountAssertions.assertInsertCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(3);
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 수정 - 사용자/이미지 join select 1회, 이미지 update")
+    void updateImage() throws Exception {
+        attachImage();
+
+        perform(put("/images/{user-email}", MEMBER_EMAIL)
+                .param("imagePath", "/images/changed.png"))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 삭제 - 사용자/이미지 join select 1회, 사용자 update, 이미지 delete")
+    void deleteImage() throws Exception {
+        attachImage();
+
+        perform(delete("/images/{userEmail}", MEMBER_EMAIL))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertDeleteCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(3);
+    }
+
+    private void attachImage() {
+        member.changeProfileImage(imageRepository.save(new Image("/images/profile.png")));
+        member = userRepository.save(member);
+    }
+}
@@ -2,10 +2,12 @@ package com.nhnacademy.image.service;
 
 import com.nhnacademy.common.exception.NotFoundException;
 import com.nhnacademy.department.domain.Department;
+import com.nhnacademy.eventlevel.domain.EventLevel;
 import com.nhnacademy.image.domain.Image;
 import com.nhnacademy.image.dto.ImageResponse;
 import com.nhnacademy.image.repository.ImageRepository;
 import com.nhnacademy.image.service.impl.ImageServiceImpl;
+import com.nhnacademy.role.domain.Role;
 import com.nhnacademy.user.domain.User;
 import com.nhnacademy.user.repository.UserRepository;
 import org.junit.jupiter.api.Assertions;
@@ -40,15 +42,17 @@ class ImageServiceImplTest {
                 "test@email.com",
                 "P@ssw0rd",
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
         user.changeProfileImage(new Image("image/path"));
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
 
         ImageResponse imageResponse = imageService.getImage(userEmail);
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
 
         Assertions.assertEquals("image/path", imageResponse.getImagePath());
     }
@@ -58,11 +62,11 @@ class ImageServiceImplTest {
     void getImage_exception1() {
         String userEmail = "test@email.com";
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.empty());
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.empty());
 
         Assertions.assertThrows(NotFoundException.class, () -> imageService.getImage(userEmail));
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
     }
 
     @Test
@@ -74,14 +78,16 @@ class ImageServiceImplTest {
                 "test@email.com",
                 "P@ssw0rd",
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
 
         Assertions.assertThrows(NotFoundException.class, () -> imageService.getImage(userEmail));
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
     }
 
     @Test
@@ -93,7 +99,9 @@ class ImageServiceImplTest {
                 "test@email.com",
                 "P@ssw0rd",
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
         user.changeProfileImage(new Image("image/path"));
 
@@ -101,11 +109,11 @@ class ImageServiceImplTest {
         field.setAccessible(true);
         field.set(user.getProfileImage(), 1L);
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
 
         imageService.deleteImage(userEmail);
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
     }
 
     @Test
@@ -113,11 +121,11 @@ class ImageServiceImplTest {
     void deleteImage_exception1() {
         String userEmail = "test@email.com";
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.empty());
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.empty());
 
         Assertions.assertThrows(NotFoundException.class, () -> imageService.deleteImage(userEmail));
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
     }
 
     @Test
@@ -129,14 +137,16 @@ class ImageServiceImplTest {
                 "test@email.com",
                 "P@ssw0rd",
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
 
         Assertions.assertThrows(NotFoundException.class, () -> imageService.deleteImage(userEmail));
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
     }
 
     @Test
@@ -149,7 +159,9 @@ class ImageServiceImplTest {
                 "test@email.com",
                 "P@ssw0rd",
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
@@ -192,15 +204,17 @@ class ImageServiceImplTest {
                 "test@email.com",
                 "P@ssw0rd",
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
         user.changeProfileImage(new Image("image/path"));
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
 
         imageService.updateImage(userEmail, imagePath);
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
 
         Assertions.assertEquals("image/", user.getProfileImage().getImagePath());
     }
@@ -211,11 +225,11 @@ class ImageServiceImplTest {
         String userEmail = "test@email.com";
         String imagePath = "image/";
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.empty());
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.empty());
 
         Assertions.assertThrows(NotFoundException.class, () -> imageService.updateImage(userEmail, imagePath));
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
     }
 
     @Test
@@ -228,13 +242,15 @@ class ImageServiceImplTest {
                 "test@email.com",
                 "P@ssw0rd",
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
-        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
 
         Assertions.assertThrows(NotFoundException.class, () -> imageService.updateImage(userEmail, imagePath));
 
-        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.times(1)).findWithProfileImageByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
     }
 }
\ No newline at end of file
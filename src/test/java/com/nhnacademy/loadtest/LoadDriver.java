@@ -0,0 +1,195 @@
+package com.nhnacademy.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 고정된 동시 사용자 수로 일정 시간 동안 HTTP 요청을 반복해서 보내는 간단한 부하 발생기입니다.
+ * <p>
+ * 클라이언트 측이 병목이 되지 않도록 가상 스레드로 동시 사용자를 만들고,
+ * 요청마다 응답 시간을 기록해 처리량과 지연 시간 분위수를 계산합니다.
+ * {@link Workload}를 넘기면 여러 엔드포인트를 가중치대로 섞어 보내고 엔드포인트별로 집계합니다.
+ * </p>
+ */
+public class LoadDriver {
+
+    private static final String ALL = "all";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int concurrency;
+    private final Duration warmUp;
+    private final Duration duration;
+
+    public LoadDriver(int concurrency, Duration warmUp, Duration duration) {
+        this.concurrency = concurrency;
+        this.warmUp = warmUp;
+        this.duration = duration;
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 요청을 보내고 결과를 반환합니다.
+     *
+     * @param requestSupplier 매 요청마다 보낼 HTTP 요청을 만드는 함수
+     * @return 측정 구간의 결과
+     */
+    public Result run(Supplier<HttpRequest> requestSupplier) throws InterruptedException {
+        Map<String, Result> results = measure(() -> new Workload.Call(ALL, requestSupplier.get()));
+        return results.getOrDefault(ALL, Result.of(List.of(), 0, 1));
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 워크로드의 요청을 섞어 보내고 엔드포인트별 결과를 반환합니다.
+     *
+     * @param workload 엔드포인트별 가중치와 요청
+     * @return 엔드포인트 이름별 결과 (워크로드에 등록한 순서)
+     */
+    public Map<String, Result> run(Workload workload) throws InterruptedException {
+        Map<String, Result> measured = measure(workload::next);
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String name : workload.names()) {
+            results.put(name, measured.getOrDefault(name, Result.of(List.of(), 0, 1)));
+        }
+        return results;
+    }
+
+    private Map<String, Result> measure(Supplier<Workload.Call> callSupplier) throws InterruptedException {
+        drive(callSupplier, warmUp, null);
+
+        Recorder recorder = new Recorder(new ConcurrentHashMap<>());
+        long elapsedNanos = drive(callSupplier, duration, recorder);
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        recorder.samples().forEach((name, samples) ->
+                results.put(name, Result.of(samples.latencies(), samples.errors().get(), elapsedNanos)));
+        return results;
+    }
+
+    private long drive(Supplier<Workload.Call> callSupplier, Duration window, Recorder recorder)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + window.toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        send(callSupplier.get(), recorder);
+                    }
+                });
+            }
+            users.shutdown();
+            if (!users.awaitTermination(window.toMillis() + 30_000, TimeUnit.MILLISECONDS)) {
+                users.shutdownNow();
+            }
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private void send(Workload.Call call, Recorder recorder) {
+        long begin = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(call.request(), HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            success = false;
+        }
+
+        if (recorder != null) {
+            recorder.record(call.name(), System.nanoTime() - begin, success);
+        }
+    }
+
+    public static HttpRequest.Builder get(String baseUrl, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET();
+    }
+
+    public static HttpRequest.Builder json(String method, String baseUrl, String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private record Recorder(Map<String, Samples> samples) {
+        void record(String name, long nanos, boolean success) {
+            Samples target = samples.computeIfAbsent(name,
+                    key -> new Samples(Collections.synchronizedList(new ArrayList<>()), new AtomicLong()));
+            if (success) {
+                target.latencies().add(nanos);
+            } else {
+                target.errors().incrementAndGet();
+            }
+        }
+    }
+
+    private record Samples(List<Long> latencies, AtomicLong errors) {
+    }
+
+    /**
+     * 측정 결과입니다.
+     *
+     * @param requests   성공한 요청 수
+     * @param errors     실패한 요청 수
+     * @param throughput 초당 성공 요청 수
+     * @param p50Millis  지연 시간 50분위(ms)
+     * @param p95Millis  지연 시간 95분위(ms)
+     * @param p99Millis  지연 시간 99분위(ms)
+     */
+    public record Result(long requests, long errors, double throughput,
+                         double p50Millis, double p95Millis, double p99Millis) {
+
+        static Result of(List<Long> latencies, long errors, long elapsedNanos) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return new Result(
+                    sorted.size(),
+                    errors,
+                    sorted.size() / seconds,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99)
+            );
+        }
+
+        private static double percentile(List<Long> sorted, double quantile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d, errors=%d, throughput=%.1f req/s, p50=%.2fms, p95=%.2fms, p99=%.2fms",
+                    requests, errors, throughput, p50Millis, p95Millis, p99Millis);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.nhnacademy.loadtest;
+
+import com.common.AESUtil;
+import com.nhnacademy.UserServiceApplication;
+import com.nhnacademy.department.domain.Department;
+import com.nhnacademy.department.repository.DepartmentRepository;
+import com.nhnacademy.eventlevel.domain.EventLevel;
+import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.role.domain.Role;
+import com.nhnacademy.role.repository.RoleRepository;
+import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동기 로깅과 비동기 로깅 파이프라인의 요청 지연 시간을 비교하는 부하 테스트입니다.
+ * <p>
+ * 요청마다 관리자 인가 필터와 서비스의 DEBUG 로그가 콘솔과 파일에 기록되도록 로그 레벨을 낮추고 측정합니다.
+ * 기준선은 Spring Boot 기본 동기 appender({@code logback-sync-test.xml}),
+ * 비교 대상은 {@code logback-spring.xml}의 비동기 appender(속도 제한 해제)와 기본 속도 제한을 적용한 경우입니다.
+ * 기본 빌드에서는 제외되며 {@code mvn test -Pload}로 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Tag("load")
+class LoggingLatencyLoadTest {
+
+    private static final int USER_COUNT = 100;
+    private static final int CONCURRENCY = 200;
+
+    @Test
+    @DisplayName("/admin/users/{userId} 지연 시간 - 동기 로깅 vs 비동기 로깅")
+    void compareLatency() throws Exception {
+        LoadDriver.Result sync = measure("sync", "logging.config=classpath:logback-sync-test.xml");
+        LoadDriver.Result async = measure("async", "logging.rate-limit.max-per-interval=" + Integer.MAX_VALUE);
+        LoadDriver.Result limited = measure("async-limited", "logging.rate-limit.max-per-interval=100");
+
+        log.warn("[sync         ] {}", sync);
+        log.warn("[async        ] {}", async);
+        log.warn("[async+limited] {}", limited);
+        log.warn("p99 async/sync ratio = {}", String.format("%.2f", async.p99Millis() / sync.p99Millis()));
+
+        Assertions.assertTrue(sync.requests() > 0);
+        Assertions.assertTrue(async.requests() > 0);
+        Assertions.assertTrue(limited.requests() > 0);
+    }
+
+    private LoadDriver.Result measure(String mode, String loggingProperty) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:logging-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "user.jdbc.proxy.enabled=false",
+                        "user.cache.user.ttl=PT0S",
+                        "logging.file.name=target/loadtest/logging-" + mode + ".log",
+                        "logging.level.root=info",
+                        "logging.level.com.nhnacademy=debug",
+                        loggingProperty
+                )
+                .run()) {
+
+            List<String> emails = seed(context);
+            AESUtil aesUtil = context.getBean(AESUtil.class);
+            List<String> userIds = emails.stream().map(aesUtil::encrypt).toList();
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadDriver driver = new LoadDriver(CONCURRENCY, Duration.ofSeconds(5), Duration.ofSeconds(20));
+            return driver.run(() -> {
+                int index = (int) (Math.random() * emails.size());
+                return LoadDriver.get(baseUrl, "/admin/users/" + emails.get(index))
+                        .header("X-User-Id", userIds.get(index))
+                        .build();
+            });
+        }
+    }
+
+    private List<String> seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        Role admin = context.getBean(RoleRepository.class).save(new Role("ROLE_ADMIN", "관리자"));
+        EventLevel info = context.getBean(EventLevelRepository.class).save(new EventLevel("INFO", "일반 정보", 1));
+        Department department = context.getBean(DepartmentRepository.class)
+                .save(new Department("DEP-LOAD", "부하테스트", null, null));
+
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            String email = "admin" + i + "@test.com";
+            userRepository.save(User.ofNewMember("admin" + i, email, "password", "010-0000-0000",
+                    department, admin, info));
+            emails.add(email);
+        }
+        return emails;
+    }
+}
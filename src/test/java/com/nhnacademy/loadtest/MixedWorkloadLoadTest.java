@@ -0,0 +1,233 @@
+package com.nhnacademy.loadtest;
+
+import com.common.AESUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.UserServiceApplication;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
+import com.nhnacademy.department.domain.Department;
+import com.nhnacademy.department.repository.DepartmentRepository;
+import com.nhnacademy.eventlevel.domain.EventLevel;
+import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.image.domain.Image;
+import com.nhnacademy.image.repository.ImageRepository;
+import com.nhnacademy.role.domain.Role;
+import com.nhnacademy.role.repository.RoleRepository;
+import com.nhnacademy.user.counter.ActiveUserCounter;
+import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.dto.UserLoginRequest;
+import com.nhnacademy.user.dto.UserUpdateRequest;
+import com.nhnacademy.user.lookup.KnownEmailFilter;
+import com.nhnacademy.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자/관리자/이미지/기준 데이터 API를 섞어 호출하면서 엔드포인트별 처리량과 지연 시간을 측정하는 부하 테스트입니다.
+ * <p>
+ * 외부 서비스 없이 H2(MySQL 호환 모드) 위에 애플리케이션을 띄우고, 사용자와 부서를 시드한 뒤 측정합니다.
+ * 규모와 동시성은 시스템 프로퍼티로 바꿀 수 있습니다.
+ * </p>
+ * <pre>
+ * mvn test -Pload -Dtest=MixedWorkloadLoadTest -Dload.users=5000 -Dload.concurrency=200 -Dload.duration=PT60S
+ * </pre>
+ * <p>
+ * 결과는 로그와 {@code target/loadtest/mixed-workload.csv}에 남습니다.
+ * </p>
+ */
+@Slf4j
+@Tag("load")
+class MixedWorkloadLoadTest {
+
+    private static final int USER_COUNT = Integer.getInteger("load.users", 1000);
+    private static final int DEPARTMENT_COUNT = Integer.getInteger("load.departments", 10);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 100);
+    private static final Duration WARM_UP = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+
+    private static final String PASSWORD = "Password1!";
+    private static final String ADMIN_EMAIL = "admin@test.com";
+    private static final Path REPORT = Path.of("target", "loadtest", "mixed-workload.csv");
+
+    @Test
+    @DisplayName("혼합 워크로드 - 엔드포인트별 처리량과 지연 시간")
+    void mixedWorkload() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-mixed;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "user.jdbc.proxy.enabled=false",
+                        // 모든 요청이 같은 IP에서 오므로 로그인 제한을 끄고 측정합니다.
+                        "user.login-throttle.enabled=false",
+                        "logging.level.root=warn"
+                )
+                .run()) {
+
+            Fixture fixture = seed(context);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadDriver driver = new LoadDriver(CONCURRENCY, WARM_UP, DURATION);
+            Map<String, LoadDriver.Result> results = driver.run(workload(baseUrl, fixture, context.getBean(ObjectMapper.class)));
+
+            report(results);
+            Assertions.assertTrue(results.values().stream().mapToLong(LoadDriver.Result::requests).sum() > 0);
+        }
+    }
+
+    private Workload workload(String baseUrl, Fixture fixture, ObjectMapper objectMapper) {
+        return new Workload()
+                .add("GET /users/me", 30, () -> LoadDriver.get(baseUrl, "/users/me")
+                        .header("X-User-Id", fixture.randomUserId()).build())
+                .add("GET /users/{userEmail}", 10, () -> LoadDriver.get(baseUrl, "/users/" + fixture.randomEmail()).build())
+                .add("POST /users/auth/signIn", 5, () -> LoadDriver.json("POST", baseUrl, "/users/auth/signIn",
+                        toJson(objectMapper, new UserLoginRequest(fixture.randomEmail(), PASSWORD))).build())
+                .add("PUT /users/me", 5, () -> {
+                    int index = fixture.randomIndex();
+                    UserUpdateRequest request = new UserUpdateRequest("부하회원" + index, "010-0000-0000",
+                            fixture.randomDepartmentId(), User.DEFAULT_EVENT_LEVEL_NAME);
+                    return LoadDriver.json("PUT", baseUrl, "/users/me", toJson(objectMapper, request))
+                            .header("X-User-Id", fixture.userIds().get(index)).build();
+                })
+                .add("GET /admin/users/all", 5, () -> fixture.admin(LoadDriver.get(baseUrl,
+                        "/admin/users/all?size=20&page=" + ThreadLocalRandom.current().nextInt(USER_COUNT / 20 + 1))))
+                .add("GET /admin/users/{userId}", 5, () -> fixture.admin(LoadDriver.get(baseUrl,
+                        "/admin/users/" + fixture.randomEmail())))
+                .add("GET /admin/users/departments/{departmentId}", 5, () -> fixture.admin(LoadDriver.get(baseUrl,
+                        "/admin/users/departments/" + fixture.randomDepartmentId())))
+                .add("GET /admin/users/departments/{departmentId}/recipients", 5, () -> fixture.admin(LoadDriver.get(baseUrl,
+                        "/admin/users/departments/" + fixture.randomDepartmentId() + "/recipients")))
+                .add("GET /images/{userEmail}", 10, () -> LoadDriver.get(baseUrl, "/images/" + fixture.randomEmail()).build())
+                .add("PUT /images/{user-email}", 3, () -> LoadDriver.json("PUT", baseUrl,
+                        "/images/" + fixture.randomEmail() + "?imagePath=/images/load-" + System.nanoTime() + ".png", "").build())
+                .add("GET /departments/all", 4, () -> LoadDriver.get(baseUrl, "/departments/all").build())
+                .add("GET /departments/{departmentId}", 3, () -> LoadDriver.get(baseUrl,
+                        "/departments/" + fixture.randomDepartmentId()).build())
+                .add("GET /roles", 3, () -> LoadDriver.get(baseUrl, "/roles").build())
+                .add("GET /roles/{roleId}", 2, () -> LoadDriver.get(baseUrl, "/roles/" + User.DEFAULT_ROLE_ID).build())
+                .add("GET /event-levels", 3, () -> LoadDriver.get(baseUrl, "/event-levels").build())
+                .add("GET /event-levels/{levelName}", 2, () -> LoadDriver.get(baseUrl,
+                        "/event-levels/" + User.DEFAULT_EVENT_LEVEL_NAME).build());
+    }
+
+    private Fixture seed(ConfigurableApplicationContext context) {
+        AESUtil aesUtil = context.getBean(AESUtil.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ImageRepository imageRepository = context.getBean(ImageRepository.class);
+        DepartmentRepository departmentRepository = context.getBean(DepartmentRepository.class);
+
+        Role member = context.getBean(RoleRepository.class).save(new Role(User.DEFAULT_ROLE_ID, "멤버"));
+        Role admin = context.getBean(RoleRepository.class).save(new Role("ROLE_ADMIN", "관리자"));
+        EventLevel info = context.getBean(EventLevelRepository.class)
+                .save(new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1));
+        context.getBean(EventLevelRepository.class).save(new EventLevel("WARN", "경고", 2));
+
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENT_COUNT; i++) {
+            departments.add(new Department("DEP-%03d".formatted(i), "부서" + i, null, null));
+        }
+        departments = departmentRepository.saveAll(departments);
+
+        // 모든 사용자가 같은 해시를 쓰므로 한 번만 계산한다
+        String encoded = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        userRepository.save(User.ofNewMember("관리자", ADMIN_EMAIL, encoded, "010-0000-0000",
+                departments.getFirst(), admin, info));
+
+        List<Image> images = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            images.add(new Image("/images/load-" + i + ".png"));
+        }
+        images = imageRepository.saveAll(images);
+
+        List<String> emails = new ArrayList<>(USER_COUNT);
+        List<User> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            String email = "load" + i + "@test.com";
+            User user = User.ofNewMember("부하회원" + i, email, encoded, "010-0000-0000",
+                    departments.get(i % DEPARTMENT_COUNT), member, info);
+            user.changeProfileImage(images.get(i));
+            users.add(user);
+            emails.add(email);
+        }
+        userRepository.saveAll(users);
+
+        context.getBean(ReferenceDataRegistry.class).reconcile();
+        context.getBean(ActiveUserCounter.class).reconcile();
+        context.getBean(KnownEmailFilter.class).rebuild();
+
+        return new Fixture(
+                emails,
+                emails.stream().map(aesUtil::encrypt).toList(),
+                departments.stream().map(Department::getDepartmentId).toList(),
+                aesUtil.encrypt(ADMIN_EMAIL)
+        );
+    }
+
+    private void report(Map<String, LoadDriver.Result> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,throughput,p50_ms,p95_ms,p99_ms");
+
+        results.forEach((endpoint, result) -> {
+            log.warn("[{}] {}", endpoint, result);
+            lines.add(String.format("\"%s\",%d,%d,%.1f,%.2f,%.2f,%.2f", endpoint, result.requests(), result.errors(),
+                    result.throughput(), result.p50Millis(), result.p95Millis(), result.p99Millis()));
+        });
+        log.warn("users={}, departments={}, concurrency={}, duration={}, total throughput={} req/s",
+                USER_COUNT, DEPARTMENT_COUNT, CONCURRENCY, DURATION,
+                String.format("%.1f", results.values().stream().mapToDouble(LoadDriver.Result::throughput).sum()));
+
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, lines);
+    }
+
+    private static String toJson(ObjectMapper objectMapper, Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Fixture(List<String> emails, List<String> userIds, List<String> departmentIds, String adminUserId) {
+
+        int randomIndex() {
+            return ThreadLocalRandom.current().nextInt(emails.size());
+        }
+
+        String randomEmail() {
+            return emails.get(randomIndex());
+        }
+
+        String randomUserId() {
+            return userIds.get(randomIndex());
+        }
+
+        String randomDepartmentId() {
+            return departmentIds.get(ThreadLocalRandom.current().nextInt(departmentIds.size()));
+        }
+
+        HttpRequest admin(HttpRequest.Builder builder) {
+            return builder.header("X-User-Id", adminUserId).build();
+        }
+    }
+}
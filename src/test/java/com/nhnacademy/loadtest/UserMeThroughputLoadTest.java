@@ -0,0 +1,102 @@
+package com.nhnacademy.loadtest;
+
+import com.common.AESUtil;
+import com.nhnacademy.UserServiceApplication;
+import com.nhnacademy.department.domain.Department;
+import com.nhnacademy.department.repository.DepartmentRepository;
+import com.nhnacademy.eventlevel.domain.EventLevel;
+import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.role.domain.Role;
+import com.nhnacademy.role.repository.RoleRepository;
+import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드에서 {@code GET /users/me}의 처리량을 비교하는 부하 테스트입니다.
+ * <p>
+ * 모드마다 애플리케이션을 별도로 띄우고 같은 조건으로 측정합니다.
+ * 기본 빌드에서는 제외되며 {@code mvn test -Pload}로 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Tag("load")
+class UserMeThroughputLoadTest {
+
+    private static final int USER_COUNT = 200;
+    private static final int CONCURRENCY = 400;
+
+    @Test
+    @DisplayName("/users/me 처리량 - 플랫폼 스레드 vs 가상 스레드")
+    void compareThroughput() throws Exception {
+        LoadDriver.Result platform = measure(false);
+        LoadDriver.Result virtual = measure(true);
+
+        log.warn("[platform] {}", platform);
+        log.warn("[virtual ] {}", virtual);
+        log.warn("virtual/platform throughput ratio = {}",
+                String.format("%.2f", virtual.throughput() / platform.throughput()));
+
+        Assertions.assertTrue(platform.requests() > 0);
+        Assertions.assertTrue(virtual.requests() > 0);
+    }
+
+    private LoadDriver.Result measure(boolean virtualThreads) throws InterruptedException {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        // 사용자 캐시를 끄고 매 요청이 DB까지 내려가도록 합니다.
+                        "user.cache.user.ttl=PT0S",
+                        "logging.level.root=warn"
+                )
+                .run()) {
+
+            List<String> userIds = seed(context);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadDriver driver = new LoadDriver(CONCURRENCY, Duration.ofSeconds(5), Duration.ofSeconds(20));
+            return driver.run(() -> {
+                String userId = userIds.get((int) (Math.random() * userIds.size()));
+                return LoadDriver.get(baseUrl, "/users/me")
+                        .header("X-User-Id", userId)
+                        .build();
+            });
+        }
+    }
+
+    private List<String> seed(ConfigurableApplicationContext context) {
+        AESUtil aesUtil = context.getBean(AESUtil.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        Role member = context.getBean(RoleRepository.class).save(new Role("ROLE_MEMBER", "멤버"));
+        EventLevel info = context.getBean(EventLevelRepository.class).save(new EventLevel("INFO", "일반 정보", 1));
+        Department department = context.getBean(DepartmentRepository.class)
+                .save(new Department("DEP-LOAD", "부하테스트", null, null));
+
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            String email = "load" + i + "@test.com";
+            userRepository.save(User.ofNewMember("loadUser" + i, email, "password", "010-0000-0000", department, member, info));
+            userIds.add(aesUtil.encrypt(email));
+        }
+        return userIds;
+    }
+}
@@ -0,0 +1,57 @@
+package com.nhnacademy.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 여러 엔드포인트를 가중치 비율대로 섞어 보내는 부하 시나리오입니다.
+ * <p>
+ * 이름은 결과 집계의 기준이 되므로 같은 엔드포인트는 하나의 이름으로 등록합니다.
+ * </p>
+ */
+public class Workload {
+
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    /**
+     * 엔드포인트를 추가합니다.
+     *
+     * @param name            결과에 표시할 엔드포인트 이름 (예: {@code GET /users/me})
+     * @param weight          다른 엔드포인트 대비 호출 비율
+     * @param requestSupplier 매 호출마다 보낼 요청을 만드는 함수
+     * @return 이 워크로드
+     */
+    public Workload add(String name, int weight, Supplier<HttpRequest> requestSupplier) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must be positive: " + name);
+        }
+        operations.add(new Operation(name, weight, requestSupplier));
+        totalWeight += weight;
+        return this;
+    }
+
+    List<String> names() {
+        return operations.stream().map(Operation::name).toList();
+    }
+
+    Call next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            pick -= operation.weight();
+            if (pick < 0) {
+                return new Call(operation.name(), operation.requestSupplier().get());
+            }
+        }
+        throw new IllegalStateException("empty workload");
+    }
+
+    private record Operation(String name, int weight, Supplier<HttpRequest> requestSupplier) {
+    }
+
+    record Call(String name, HttpRequest request) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.role.controller;
+
+import com.nhnacademy.common.jdbc.QueryBudgetTestSupport;
+import com.nhnacademy.common.jdbc.QueryCountAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RoleControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    @DisplayName("권한 전체 조회 - 스냅샷에서 응답하여 DB 조회 없음")
+    void getAllRole() throws Exception {
+        perform(get("/roles"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(0);
+    }
+
+    @Test
+    @DisplayName("권한 단건 조회 - 스냅샷에서 응답하여 DB 조회 없음")
+    void getRoleByRoleId() throws Exception {
+        perform(get("/roles/{roleId}", "ROLE_MEMBER"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(0);
+    }
+}
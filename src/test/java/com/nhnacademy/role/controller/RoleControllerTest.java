@@ -1,6 +1,7 @@
 package com.nhnacademy.role.controller;
 
 import com.common.AESUtil;
+import com.nhnacademy.common.web.ConditionalResponses;
 import com.nhnacademy.role.dto.RoleResponse;
 import com.nhnacademy.role.service.RoleService;
 import com.nhnacademy.user.service.UserService;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -19,10 +21,12 @@ import java.util.stream.IntStream;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(RoleController.class)
+@Import(ConditionalResponses.class)
 @AutoConfigureMockMvc
 class RoleControllerTest {
     @Autowired
@@ -49,15 +53,32 @@ class RoleControllerTest {
                 .toList();
 
         when(roleService.getAllRole()).thenReturn(roleResponses);
+        when(roleService.getAllRoleETag()).thenReturn("\"roles-test-1\"");
 
         mockMvc.perform(get("/roles")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"roles-test-1\""))
+                .andExpect(header().exists("Cache-Control"))
                 .andDo(print());
 
         verify(roleService, times(1)).getAllRole();
     }
 
+    @Test
+    @DisplayName("모든 권한 조회 - ETag 일치 시 304 반환")
+    void getAllRole_304() throws Exception {
+        when(roleService.getAllRoleETag()).thenReturn("\"roles-test-1\"");
+
+        mockMvc.perform(get("/roles")
+                        .header("If-None-Match", "\"roles-test-1\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andDo(print());
+
+        verify(roleService, never()).getAllRole();
+    }
+
     @Test
     @DisplayName("권한ID에 따른 조회 - 200 반환")
     void getRoleByRoleId_200() throws Exception {
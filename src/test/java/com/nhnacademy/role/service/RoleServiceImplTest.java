@@ -2,6 +2,7 @@ package com.nhnacademy.role.service;
 
 import com.nhnacademy.common.exception.ConflictException;
 import com.nhnacademy.common.exception.NotFoundException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
 import com.nhnacademy.role.domain.Role;
 import com.nhnacademy.role.dto.RoleRequest;
 import com.nhnacademy.role.dto.RoleResponse;
@@ -26,6 +27,9 @@ class RoleServiceImplTest {
     @Mock
     RoleRepository roleRepository;
 
+    @Mock
+    ReferenceDataRegistry referenceData;
+
     @InjectMocks
     RoleServiceImpl roleService;
 
@@ -40,11 +44,12 @@ class RoleServiceImplTest {
                         ))
                 .toList();
 
-        when(roleRepository.findAllRole()).thenReturn(Optional.of(roleResponses));
+        when(referenceData.getRoles()).thenReturn(roleResponses);
 
         List<RoleResponse> roleResponses1 = roleService.getAllRole();
 
-        verify(roleRepository, times(1)).findAllRole();
+        verify(referenceData, times(1)).getRoles();
+        verify(roleRepository, never()).findAllRole();
 
         Assertions.assertEquals(10, roleResponses1.size());
     }
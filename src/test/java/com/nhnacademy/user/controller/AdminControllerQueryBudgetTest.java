@@ -0,0 +1,259 @@
+package com.nhnacademy.user.controller;
+
+import com.nhnacademy.common.jdbc.QueryBudgetTestSupport;
+import com.nhnacademy.common.jdbc.QueryCountAssertions;
+import com.nhnacademy.department.dto.DepartmentRequest;
+import com.nhnacademy.eventlevel.dto.EventLevelRequest;
+import com.nhnacademy.role.dto.RoleRequest;
+import com.nhnacademy.user.dto.UserBatchByEmailRequest;
+import com.nhnacademy.user.dto.UserBatchByNoRequest;
+import com.nhnacademy.user.dto.UserRoleUpdateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 API의 쿼리 예산 테스트입니다.
+ * <p>
+ * 모든 요청은 관리자 인가 필터의 권한 조회(select 1회)를 포함합니다.
+ * 참조 데이터 생성/수정/삭제는 커밋 후 스냅샷 재적재(select 1회)까지 포함하며,
+ * ID를 직접 지정하는 엔티티의 {@code save}는 merge로 처리되어 insert 전에 select가 1회 더 실행됩니다.
+ * 스트리밍 내보내기는 별도 스레드에서 실행되어 요청 스레드의 집계에 잡히지 않으므로 대상에서 제외합니다.
+ * </p>
+ */
+class AdminControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    @DisplayName("전체 사용자 페이지 - 전체 건수는 카운터를 사용하고 목록 select 1회")
+    void getAllUser() throws Exception {
+        performAsAdmin(get("/admin/users/all").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("사용자 Slice - count 없이 select 1회")
+    void getUserSlice() throws Exception {
+        performAsAdmin(get("/admin/users/all").param("slice", "true"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - select 1회")
+    void getUsersByCursor() throws Exception {
+        performAsAdmin(get("/admin/users/cursor").param("size", "10"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("부서별 사용자 - 건수는 카운터를 사용하고 목록 select 1회")
+    void findUsersByDepartmentId() throws Exception {
+        performAsAdmin(get("/admin/users/departments/{departmentId}", DEPARTMENT_ID))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("부서 알림 수신자 - select 1회")
+    void getDepartmentRecipients() throws Exception {
+        performAsAdmin(get("/admin/users/departments/{departmentId}/recipients", DEPARTMENT_ID))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("이메일 일괄 조회 - 건수와 무관하게 select 1회")
+    void getUsersByEmails() throws Exception {
+        UserBatchByEmailRequest request = new UserBatchByEmailRequest(List.of(MEMBER_EMAIL, ADMIN_EMAIL, "none@test.com"));
+
+        performAsAdmin(post("/admin/users/batch/by-email")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("사용자 번호 일괄 조회 - 건수와 무관하게 select 1회")
+    void getUsersByUserNos() throws Exception {
+        UserBatchByNoRequest request = new UserBatchByNoRequest(List.of(member.getUserNo(), admin.getUserNo()));
+
+        performAsAdmin(post("/admin/users/batch/by-no")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("사용자 단건 조회 - projection select 1회")
+    void getUserById() throws Exception {
+        performAsAdmin(get("/admin/users/{userId}", MEMBER_EMAIL))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("권한 변경 - 권한은 스냅샷으로 검증하고 select 1회, update 1회")
+    void updateUserRole() throws Exception {
+        performAsAdmin(put("/admin/users/roles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new UserRoleUpdateRequest(MEMBER_EMAIL, "ROLE_GUEST"))))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(3);
+    }
+
+    @Test
+    @DisplayName("관리자 회원 삭제 - select 1회, update 1회")
+    void deleteUserByAdmin() throws Exception {
+        performAsAdmin(delete("/admin/users/{userId}", MEMBER_EMAIL))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(3);
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 등록 - 기존 이메일 select 1회, 배치 insert 1회")
+    void importUsers() throws Exception {
+        String csv = "userName,userEmail,userPassword,userPhone,userDepartment\n"
+                + "가져온회원1,import1@test.com," + PASSWORD + ",010-5555-0001," + DEPARTMENT_ID + "\n"
+                + "가져온회원2,import2@test.com," + PASSWORD + ",010-5555-0002," + DEPARTMENT_ID + "\n";
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+
+        performAsAdmin(multipart("/admin/users/import").file(file))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertInsertCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(3);
+    }
+
+    @Test
+    @DisplayName("이벤트 레벨 생성 - 존재 확인, merge select, insert, 스냅샷 재적재")
+    void createEventLevel() throws Exception {
+        performAsAdmin(post("/admin/event-levels")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new EventLevelRequest("ERROR", "오류", 3))))
+                .andExpect(status().isCreated());
+
+        QueryCountAssertions.assertInsertCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(5);
+    }
+
+    @Test
+    @DisplayName("이벤트 레벨 수정 - select, update, 스냅샷 재적재")
+    void updateEventLevel() throws Exception {
+        performAsAdmin(put("/admin/event-levels")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new EventLevelRequest("WARN", "주의", 2))))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(4);
+    }
+
+    @Test
+    @DisplayName("이벤트 레벨 삭제 - 존재 확인, select, delete, 스냅샷 재적재")
+    void deleteEventLevel() throws Exception {
+        performAsAdmin(delete("/admin/event-levels/{levelName}", "WARN"))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertDeleteCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(5);
+    }
+
+    @Test
+    @DisplayName("부서 생성 - 존재 확인, merge select, insert, 스냅샷 재적재")
+    void createDepartment() throws Exception {
+        performAsAdmin(post("/admin/departments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new DepartmentRequest("DEP-003", "인사팀"))))
+                .andExpect(status().isCreated());
+
+        QueryCountAssertions.assertInsertCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(5);
+    }
+
+    @Test
+    @DisplayName("부서 수정 - select, update, 스냅샷 재적재")
+    void updateDepartment() throws Exception {
+        performAsAdmin(put("/admin/departments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new DepartmentRequest(OTHER_DEPARTMENT_ID, "운영지원팀"))))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(4);
+    }
+
+    @Test
+    @DisplayName("부서 삭제 - 존재 확인, select, delete, 스냅샷 재적재")
+    void deleteDepartment() throws Exception {
+        performAsAdmin(delete("/admin/departments/{departmentId}", OTHER_DEPARTMENT_ID))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertDeleteCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(5);
+    }
+
+    @Test
+    @DisplayName("권한 생성 - 존재 확인, merge select, insert, 스냅샷 재적재")
+    void createRole() throws Exception {
+        performAsAdmin(post("/admin/roles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new RoleRequest("ROLE_VIEWER", "조회자"))))
+                .andExpect(status().isCreated());
+
+        QueryCountAssertions.assertInsertCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(5);
+    }
+
+    @Test
+    @DisplayName("권한 수정 - select, update, 스냅샷 재적재")
+    void updateRole() throws Exception {
+        performAsAdmin(put("/admin/roles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new RoleRequest("ROLE_GUEST", "손님"))))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(4);
+    }
+
+    @Test
+    @DisplayName("권한 삭제 - 존재 확인, select, delete, 스냅샷 재적재")
+    void deleteRole() throws Exception {
+        performAsAdmin(delete("/admin/roles/{roleId}", "ROLE_GUEST"))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertDeleteCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(5);
+    }
+
+    private ResultActions performAsAdmin(MockHttpServletRequestBuilder request)
+            throws Exception {
+        return perform(request.header("X-User-Id", userId(ADMIN_EMAIL)));
+    }
+}
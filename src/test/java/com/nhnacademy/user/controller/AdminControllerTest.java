@@ -2,6 +2,8 @@ package com.nhnacademy.user.controller;
 
 import com.common.AESUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.common.filter.RequestIdFilter;
+import com.nhnacademy.common.logging.MdcTaskDecorator;
 import com.nhnacademy.department.dto.DepartmentRequest;
 import com.nhnacademy.department.dto.DepartmentResponse;
 import com.nhnacademy.department.service.DepartmentService;
@@ -10,32 +12,51 @@ import com.nhnacademy.eventlevel.dto.EventLevelResponse;
 import com.nhnacademy.eventlevel.service.EventLevelService;
 import com.nhnacademy.role.dto.RoleRequest;
 import com.nhnacademy.role.service.RoleService;
+import com.nhnacademy.user.dto.UserBatchByEmailRequest;
+import com.nhnacademy.user.dto.UserBatchByNoRequest;
+import com.nhnacademy.user.dto.UserBatchResponse;
+import com.nhnacademy.user.dto.UserFileFormat;
+import com.nhnacademy.user.dto.UserImportResponse;
+import com.nhnacademy.user.dto.UserImportRowResult;
+import com.nhnacademy.user.dto.UserRecipientResponse;
 import com.nhnacademy.user.dto.UserResponse;
 import com.nhnacademy.user.dto.UserRoleUpdateRequest;
+import com.nhnacademy.user.service.UserExportService;
+import com.nhnacademy.user.service.UserImportService;
 import com.nhnacademy.user.service.UserService;
 import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AdminController.class)
 @AutoConfigureMockMvc
+@Import(MdcTaskDecorator.class)
 class AdminControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -48,22 +69,16 @@ class AdminControllerTest {
     @MockitoBean
     private RoleService roleService;
     @MockitoBean
+    private UserExportService userExportService;
+    @MockitoBean
+    private UserImportService userImportService;
+    @MockitoBean
     private AESUtil aesUtil;
 
     @BeforeEach
     void setUp() {
-        UserResponse adminUserResponse = new UserResponse(
-                "ROLE_ADMIN",
-                1L,
-                "testUser",
-                "test@email.com",
-                "010-1234-5678",
-                new DepartmentResponse("DEP-001", "개발부"),
-                new EventLevelResponse("error", "에러", 4)
-        );
-
         when(aesUtil.decrypt(anyString())).thenReturn("admin@email.com");
-        when(userService.getUser("admin@email.com")).thenReturn(adminUserResponse);
+        when(userService.getUserRole("admin@email.com")).thenReturn("ROLE_ADMIN");
     }
 
     @Test
@@ -116,7 +131,138 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$.userEmail").value("test@email.com"))
                 .andExpect(jsonPath("$.userName").value("testUser"));
 
-        verify(userService, times(2)).getUser(anyString());
+        verify(userService, times(1)).getUser(anyString());
+    }
+
+    @Test
+    @DisplayName("이메일 목록 일괄 조회 - 200 반환")
+    void getUsersByEmails_200() throws Exception {
+        UserResponse userResponse = new UserResponse(
+                "ROLE_MEMBER",
+                1L,
+                "testUser",
+                "test@email.com",
+                "010-1234-5678",
+                new DepartmentResponse("DEP-001", "개발부"),
+                new EventLevelResponse("error", "에러", 4)
+        );
+
+        when(userService.getUsersByEmails(List.of("test@email.com", "none@email.com")))
+                .thenReturn(new UserBatchResponse<>(List.of(userResponse), List.of("none@email.com")));
+
+        mockMvc.perform(post("/admin/users/batch/by-email")
+                        .header("X-User-Id", "encryptEmail")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(
+                                new UserBatchByEmailRequest(List.of("test@email.com", "none@email.com")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].userEmail").value("test@email.com"))
+                .andExpect(jsonPath("$.missing[0]").value("none@email.com"));
+    }
+
+    @Test
+    @DisplayName("사용자 번호 목록 일괄 조회 - 최대 건수 초과 시 400 반환")
+    void getUsersByUserNos_400() throws Exception {
+        List<Long> userNos = IntStream.rangeClosed(1, UserBatchByEmailRequest.MAX_SIZE + 1)
+                .mapToObj(Long::valueOf)
+                .toList();
+
+        mockMvc.perform(post("/admin/users/batch/by-no")
+                        .header("X-User-Id", "encryptEmail")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(new UserBatchByNoRequest(userNos))))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUsersByUserNos(anyList());
+    }
+
+    @Test
+    @DisplayName("사용자 CSV 내보내기 - 스트리밍 응답")
+    void exportUsers_csv() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("userNo\n1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(userExportService).exportUsers(eq(UserFileFormat.CSV), any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/admin/users/export")
+                        .header("X-User-Id", "encryptEmail")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(content().string("userNo\n1\n"));
+    }
+
+    @Test
+    @DisplayName("사용자 내보내기 - 비동기 스레드의 로그에도 요청 ID 유지")
+    void exportUsers_keepsRequestIdOnAsyncThread() throws Exception {
+        AtomicReference<String> requestId = new AtomicReference<>();
+        AtomicReference<Thread> exportThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            requestId.set(MDC.get(RequestIdFilter.MDC_KEY));
+            exportThread.set(Thread.currentThread());
+            return 0L;
+        }).when(userExportService).exportUsers(eq(UserFileFormat.NDJSON), any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/admin/users/export")
+                        .header("X-User-Id", "encryptEmail")
+                        .header(RequestIdFilter.HEADER, "export-request-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        Assertions.assertNotSame(Thread.currentThread(), exportThread.get());
+        Assertions.assertEquals("export-request-1", requestId.get());
+    }
+
+    @Test
+    @DisplayName("사용자 내보내기 - 지원하지 않는 형식은 400 반환")
+    void exportUsers_400() throws Exception {
+        mockMvc.perform(get("/admin/users/export")
+                        .header("X-User-Id", "encryptEmail")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(userExportService, never()).exportUsers(any(), any());
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 등록 - 파일 확장자로 형식 판단 후 200 반환")
+    void importUsers_200() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv",
+                "userName,userEmail,userPassword,userPhone,userDepartment\n".getBytes(StandardCharsets.UTF_8));
+        when(userImportService.importUsers(eq(UserFileFormat.CSV), any(InputStream.class)))
+                .thenReturn(new UserImportResponse(1, 1, 0, List.of(new UserImportRowResult(
+                        2, "test@email.com", UserImportRowResult.Status.CREATED, null))));
+
+        mockMvc.perform(multipart("/admin/users/import")
+                        .file(file)
+                        .header("X-User-Id", "encryptEmail"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"));
+    }
+
+    @Test
+    @DisplayName("부서 알림 수신자 조회 - 200 반환")
+    void getDepartmentRecipients_200() throws Exception {
+        when(userService.getDepartmentRecipients("DEP-001", 2))
+                .thenReturn(List.of(new UserRecipientResponse(1L, "test@email.com", "010-1234-5678")));
+
+        mockMvc.perform(get("/admin/users/departments/DEP-001/recipients")
+                        .header("X-User-Id", "encryptEmail")
+                        .param("maxPriority", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userEmail").value("test@email.com"))
+                .andExpect(jsonPath("$[0].userName").doesNotExist());
+
+        verify(userService, times(1)).getDepartmentRecipients("DEP-001", 2);
     }
 
     @Test
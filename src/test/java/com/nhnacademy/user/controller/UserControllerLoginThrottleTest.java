@@ -0,0 +1,72 @@
+package com.nhnacademy.user.controller;
+
+import com.common.AESUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.common.web.ClientIpResolver;
+import com.nhnacademy.user.dto.UserLoginRequest;
+import com.nhnacademy.user.login.LoginAttemptLimiter;
+import com.nhnacademy.user.service.UserService;
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 {@link LoginAttemptLimiter}로 로그인 IP 제한이 게이트웨이 뒤의 클라이언트별로 적용되는지 확인합니다.
+ */
+@WebMvcTest(controllers = UserController.class, properties = "user.login-throttle.ip.limit=1")
+@AutoConfigureMockMvc
+@Import({ClientIpResolver.class, LoginAttemptLimiter.class})
+class UserControllerLoginThrottleTest {
+    private static final String GATEWAY = "10.0.0.5";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private AESUtil aesUtil;
+
+    @Test
+    @DisplayName("같은 게이트웨이를 거친 요청 - X-Forwarded-For 클라이언트별로 따로 제한")
+    void signIn_throughGateway_limitedPerForwardedClient() throws Exception {
+        mockMvc.perform(signIn("first@email.com", GATEWAY).header("X-Forwarded-For", "203.0.113.1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(signIn("second@email.com", GATEWAY).header("X-Forwarded-For", "203.0.113.2"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(signIn("third@email.com", GATEWAY).header("X-Forwarded-For", "203.0.113.1"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소의 X-Forwarded-For - 무시하고 접속 주소로 제한")
+    void signIn_fromUntrustedPeer_ignoresForwardedFor() throws Exception {
+        mockMvc.perform(signIn("first@email.com", "198.51.100.7").header("X-Forwarded-For", "203.0.113.3"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(signIn("second@email.com", "198.51.100.7").header("X-Forwarded-For", "203.0.113.4"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private static MockHttpServletRequestBuilder signIn(String userEmail, String remoteAddr) throws Exception {
+        return post("/users/auth/signIn")
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(new UserLoginRequest(userEmail, "P@ssw0rd")));
+    }
+}
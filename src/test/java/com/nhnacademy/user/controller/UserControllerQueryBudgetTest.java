@@ -0,0 +1,133 @@
+package com.nhnacademy.user.controller;
+
+import com.nhnacademy.common.jdbc.QueryBudgetTestSupport;
+import com.nhnacademy.common.jdbc.QueryCountAssertions;
+import com.nhnacademy.user.dto.ChangePasswordRequest;
+import com.nhnacademy.user.dto.UserLoginRequest;
+import com.nhnacademy.user.dto.UserRegisterRequest;
+import com.nhnacademy.user.dto.UserUpdateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    @DisplayName("회원가입 - insert 1회")
+    void signUp() throws Exception {
+        UserRegisterRequest request = new UserRegisterRequest("신규회원", "new@test.com", PASSWORD, "010-3333-3333", DEPARTMENT_ID);
+
+        perform(post("/users/auth/signUp")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isCreated());
+
+        QueryCountAssertions.assertSelectCount(0);
+        QueryCountAssertions.assertInsertCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(1);
+    }
+
+    @Test
+    @DisplayName("로그인 - select 1회")
+    void signIn() throws Exception {
+        perform(post("/users/auth/signIn")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new UserLoginRequest(MEMBER_EMAIL, PASSWORD))))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(1);
+    }
+
+    @Test
+    @DisplayName("이메일 존재 여부 - select 1회")
+    void existsByEmail() throws Exception {
+        perform(get("/users/{userEmail}", MEMBER_EMAIL))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(1);
+    }
+
+    @Test
+    @DisplayName("이메일 존재 확인 - 가입되지 않은 이메일은 블룸 필터로 판단해 쿼리 없음")
+    void existsByEmail_unknown() throws Exception {
+        perform(get("/users/{userEmail}", "nobody@test.com"))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(0);
+    }
+
+    @Test
+    @DisplayName("로그인 - 가입되지 않은 이메일도 블룸 필터 없이 select 1회 후 404")
+    void signIn_unknown() throws Exception {
+        perform(post("/users/auth/signIn")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new UserLoginRequest("nobody@test.com", PASSWORD))))
+                .andExpect(status().isNotFound());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(1);
+    }
+
+    @Test
+    @DisplayName("내 정보 조회 - 첫 요청은 projection select 1회, 이후는 캐시")
+    void getMyInfo() throws Exception {
+        perform(get("/users/me").header("X-User-Id", userId(MEMBER_EMAIL)))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(1);
+
+        perform(get("/users/me").header("X-User-Id", userId(MEMBER_EMAIL)))
+                .andExpect(status().isOk());
+
+        QueryCountAssertions.assertTotalCountAtMost(0);
+    }
+
+    @Test
+    @DisplayName("내 정보 수정 - 부서/이벤트 레벨은 스냅샷으로 검증하고 select 1회, update 1회")
+    void updateMyInfo() throws Exception {
+        UserUpdateRequest request = new UserUpdateRequest("수정회원", "010-4444-4444", OTHER_DEPARTMENT_ID, "WARN");
+
+        perform(put("/users/me")
+                .header("X-User-Id", userId(MEMBER_EMAIL))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 - select 1회, update 1회")
+    void changePassword() throws Exception {
+        ChangePasswordRequest request = new ChangePasswordRequest(PASSWORD, "newP@ssw0rd", "newP@ssw0rd");
+
+        perform(put("/users/me/password")
+                .header("X-User-Id", userId(MEMBER_EMAIL))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - select 1회, update 1회")
+    void deleteMyAccount() throws Exception {
+        perform(delete("/users/me").header("X-User-Id", userId(MEMBER_EMAIL)))
+                .andExpect(status().isNoContent());
+
+        QueryCountAssertions.assertSelectCount(1);
+        QueryCountAssertions.assertUpdateCount(1);
+        QueryCountAssertions.assertTotalCountAtMost(2);
+    }
+}
@@ -2,9 +2,12 @@ package com.nhnacademy.user.controller;
 
 import com.common.AESUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.common.exception.TooManyRequestsException;
+import com.nhnacademy.common.web.ClientIpResolver;
 import com.nhnacademy.department.dto.DepartmentResponse;
 import com.nhnacademy.eventlevel.dto.EventLevelResponse;
 import com.nhnacademy.user.dto.*;
+import com.nhnacademy.user.login.LoginAttemptLimiter;
 import com.nhnacademy.user.service.UserService;
 import jakarta.ws.rs.core.MediaType;
 import org.junit.jupiter.api.DisplayName;
@@ -12,17 +15,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
 @AutoConfigureMockMvc
+@Import(ClientIpResolver.class)
 class UserControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -33,6 +41,9 @@ class UserControllerTest {
     @MockitoBean
     private AESUtil aesUtil;
 
+    @MockitoBean
+    private LoginAttemptLimiter loginAttemptLimiter;
+
     @Test
     @DisplayName("회원가입 요청 - 201 반환")
     void signUp_201() throws Exception {
@@ -87,6 +98,26 @@ class UserControllerTest {
         verify(userService, times(1)).loginUser(any(UserLoginRequest.class));
     }
 
+    @Test
+    @DisplayName("로그인 요청 - 시도 횟수 초과로 429와 Retry-After 반환")
+    void signIn_429() throws Exception {
+        UserLoginRequest userLoginRequest = new UserLoginRequest(
+                "test@email.com",
+                "P@ssw0rd"
+        );
+
+        doThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다.", Duration.ofMillis(1500)))
+                .when(loginAttemptLimiter).check(eq("test@email.com"), anyString());
+
+        mockMvc.perform(post("/users/auth/signIn")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(userLoginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+
+        verify(userService, never()).loginUser(any(UserLoginRequest.class));
+    }
+
     @Test
     @DisplayName("로그인 요청 - validate 검증으로 인한 400 반환")
     void signIn_400() throws Exception {
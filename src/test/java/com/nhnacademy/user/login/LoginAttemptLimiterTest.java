@@ -0,0 +1,65 @@
+package com.nhnacademy.user.login;
+
+import com.nhnacademy.common.exception.TooManyRequestsException;
+import com.nhnacademy.common.ratelimit.RateLimitStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.Duration;
+
+class LoginAttemptLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 이메일로 한도를 넘으면 429, 다른 이메일은 허용")
+    void throttleByEmail() {
+        LoginAttemptLimiter limiter = limiter(true, 2, 100);
+
+        limiter.check("user@test.com", "10.0.0.1");
+        limiter.check("USER@test.com", "10.0.0.2");
+
+        TooManyRequestsException exception = Assertions.assertThrows(TooManyRequestsException.class,
+                () -> limiter.check("user@test.com", "10.0.0.3"));
+        Assertions.assertEquals(429, exception.getStatusCode());
+        Assertions.assertTrue(exception.getRetryAfter().compareTo(Duration.ZERO) > 0);
+
+        Assertions.assertDoesNotThrow(() -> limiter.check("other@test.com", "10.0.0.3"));
+        Assertions.assertEquals(1, meterRegistry.get("user.login.throttled").tag("scope", "email").counter().count());
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 여러 이메일로 한도를 넘으면 429")
+    void throttleByIp() {
+        LoginAttemptLimiter limiter = limiter(true, 100, 2);
+
+        limiter.check("a@test.com", "10.0.0.1");
+        limiter.check("b@test.com", "10.0.0.1");
+
+        Assertions.assertThrows(TooManyRequestsException.class, () -> limiter.check("c@test.com", "10.0.0.1"));
+        Assertions.assertEquals(1, meterRegistry.get("user.login.throttled").tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("비활성화하면 제한하지 않음")
+    void disabled() {
+        LoginAttemptLimiter limiter = limiter(false, 1, 1);
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertDoesNotThrow(() -> limiter.check("user@test.com", "10.0.0.1"));
+        }
+    }
+
+    private LoginAttemptLimiter limiter(boolean enabled, long emailLimit, long ipLimit) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+
+        return new LoginAttemptLimiter(beanFactory.getBeanProvider(RateLimitStore.class),
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                enabled, emailLimit, Duration.ofMinutes(5), ipLimit, Duration.ofMinutes(1), 1000);
+    }
+}
@@ -0,0 +1,109 @@
+package com.nhnacademy.user.lookup;
+
+import com.nhnacademy.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.stream.Stream;
+
+class KnownEmailFilterTest {
+
+    private final UserRepository userRepository = Mockito.mock(UserRepository.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private KnownEmailFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(transactionManager.getTransaction(Mockito.any(TransactionDefinition.class)))
+                .thenReturn(new SimpleTransactionStatus());
+        filter = new KnownEmailFilter(userRepository, transactionManager,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), 0.01, 1000, 100);
+        Mockito.when(userRepository.count()).thenReturn(2L);
+        Mockito.when(userRepository.streamActiveUserEmails(100))
+                .thenAnswer(invocation -> Stream.of("member@test.com", "Admin@Test.com"));
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 모든 이메일을 있을 수 있음으로 판단")
+    void beforeRebuild() {
+        Assertions.assertTrue(filter.mightExist("nobody@test.com"));
+    }
+
+    @Test
+    @DisplayName("재구성 후 가입된 이메일은 대소문자와 관계없이 있을 수 있음, 없는 이메일은 없음")
+    void afterRebuild() {
+        filter.rebuild();
+
+        Assertions.assertTrue(filter.mightExist("member@test.com"));
+        Assertions.assertTrue(filter.mightExist("MEMBER@test.com"));
+        Assertions.assertTrue(filter.mightExist("admin@test.com"));
+        Assertions.assertFalse(filter.mightExist("nobody@test.com"));
+    }
+
+    @Test
+    @DisplayName("가입한 이메일을 추가하면 바로 반영")
+    void add() {
+        filter.rebuild();
+
+        filter.add("new@test.com");
+
+        Assertions.assertTrue(filter.mightExist("new@test.com"));
+    }
+
+    @Test
+    @DisplayName("ASCII가 아닌 이메일은 필터를 거치지 않고 DB로 확인")
+    void nonAsciiFallsThrough() {
+        filter.rebuild();
+
+        Assertions.assertTrue(filter.mightExist("사용자@test.com"));
+    }
+
+    @Test
+    @DisplayName("재구성이 실패하면 기존 필터 유지")
+    void keepFilterOnFailure() {
+        filter.rebuild();
+        Mockito.when(userRepository.streamActiveUserEmails(100)).thenThrow(new IllegalStateException("db down"));
+
+        filter.rebuild();
+
+        Assertions.assertTrue(filter.mightExist("member@test.com"));
+        Assertions.assertFalse(filter.mightExist("nobody@test.com"));
+    }
+
+    @Test
+    @DisplayName("이메일 조회 스냅샷 이후 커밋된 가입자는 add()로 새 필터에 기록돼 교체 후에도 남는다")
+    void addDuringRebuild() {
+        filter.rebuild();
+        Mockito.when(userRepository.streamActiveUserEmails(100)).thenAnswer(invocation -> {
+            // 스냅샷이 잡힌 뒤 다른 요청의 가입이 커밋되고 커밋 후 콜백이 실행된 상황
+            filter.add("late@test.com");
+            return Stream.of("member@test.com");
+        });
+
+        filter.rebuild();
+
+        Assertions.assertTrue(filter.mightExist("late@test.com"));
+        Assertions.assertTrue(filter.mightExist("member@test.com"));
+    }
+
+    @Test
+    @DisplayName("크기 계산용 count는 이메일 조회 트랜잭션 시작 전에 실행")
+    void countOutsideStreamingTransaction() {
+        filter.rebuild();
+
+        InOrder inOrder = Mockito.inOrder(userRepository, transactionManager);
+        inOrder.verify(userRepository).count();
+        inOrder.verify(transactionManager).getTransaction(Mockito.any(TransactionDefinition.class));
+        inOrder.verify(userRepository).streamActiveUserEmails(100);
+        inOrder.verify(transactionManager).commit(Mockito.any());
+    }
+}
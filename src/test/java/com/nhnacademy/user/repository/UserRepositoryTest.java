@@ -5,11 +5,14 @@ import com.nhnacademy.department.domain.Department;
 import com.nhnacademy.department.repository.DepartmentRepository;
 import com.nhnacademy.eventlevel.domain.EventLevel;
 import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.image.domain.Image;
 import com.nhnacademy.role.domain.Role;
 import com.nhnacademy.role.repository.RoleRepository;
 import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.dto.UserRecipientResponse;
 import com.nhnacademy.user.dto.UserResponse;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,7 @@ import org.springframework.test.context.ActiveProfiles;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 
 /**
@@ -52,19 +56,19 @@ class UserRepositoryTest {
      * @return 저장된 User 엔티티
      */
     User settingUser() {
-        Department department = new Department("MCS-234", "인사과");
+        Department department = departmentRepository.save(new Department("MCS-234", "인사과"));
+        Role role = roleRepository.save(new Role(User.DEFAULT_ROLE_ID, "멤버"));
+        EventLevel eventLevel = eventLevelRepository.save(new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1));
         User user = User.ofNewMember(
                 "user",
                 "user@email.com",
                 "userPassword",
                 "010-1234-5678",
-                department
+                department,
+                role,
+                eventLevel
         );
 
-        departmentRepository.save(department);
-        roleRepository.save(user.getRole());
-        eventLevelRepository.save(user.getEventLevel());
-
         return userRepository.save(user);
     }
 
@@ -95,6 +99,19 @@ class UserRepositoryTest {
         );
     }
 
+    @Test
+    @DisplayName("userEmail로 권한 ID 조회")
+    void findUserRoleIdByUserEmail() {
+        User user = settingUser();
+        entityManager.clear();
+
+        Optional<String> roleId = userRepository.findUserRoleIdByUserEmail(user.getUserEmail());
+        Optional<String> unknown = userRepository.findUserRoleIdByUserEmail("unknown@email.com");
+
+        Assertions.assertEquals(Optional.of("ROLE_MEMBER"), roleId);
+        Assertions.assertTrue(unknown.isEmpty());
+    }
+
     @Test
     @DisplayName("모든 사용자 조회")
     void findAllUserResponse() {
@@ -113,7 +130,9 @@ class UserRepositoryTest {
                     "user" + i + "@email.com",
                     "password" + i,
                     "010-0000-000" + i,
-                    department
+                    department,
+                    role,
+                    eventLevel
             );
             userRepository.save(user);
         });
@@ -130,6 +149,82 @@ class UserRepositoryTest {
         });
     }
 
+    @Test
+    @DisplayName("커서 기반 사용자 조회 - user_no 이후의 탈퇴하지 않은 사용자만 조회")
+    void findUserResponsesAfter() {
+        Department department = new Department("DEP-001", "개발부");
+        Role role = new Role("ROLE_MEMBER", "멤버");
+        EventLevel eventLevel = new EventLevel("INFO", "일반 정보", 1);
+
+        roleRepository.save(role);
+        departmentRepository.save(department);
+        eventLevelRepository.save(eventLevel);
+
+        List<User> users = IntStream.range(1, 11)
+                .mapToObj(i -> {
+                    User user = User.ofNewMember(
+                            "user" + i,
+                            "user" + i + "@email.com",
+                            "password" + i,
+                            "010-0000-000" + i,
+                            department,
+                            role,
+                            eventLevel
+                    );
+                    if (i == 7) {
+                        user.updateWithdrawalAt();
+                    }
+                    return userRepository.save(user);
+                })
+                .toList();
+
+        entityManager.clear();
+
+        Long lastUserNo = users.get(4).getUserNo();
+        List<UserResponse> nextUsers = userRepository.findUserResponsesAfter(lastUserNo, 3);
+
+        Assertions.assertEquals(3, nextUsers.size());
+        Assertions.assertTrue(nextUsers.stream().allMatch(user -> user.getUserNo() > lastUserNo));
+        Assertions.assertTrue(nextUsers.stream().noneMatch(user -> "user7@email.com".equals(user.getUserEmail())));
+    }
+
+    @Test
+    @DisplayName("이메일 목록으로 사용자 일괄 조회 - 탈퇴 사용자와 없는 이메일은 제외")
+    void findUserResponsesByUserEmails() {
+        Department department = new Department("DEP-001", "개발부");
+        Role role = new Role("ROLE_MEMBER", "멤버");
+        EventLevel eventLevel = new EventLevel("INFO", "일반 정보", 1);
+
+        roleRepository.save(role);
+        departmentRepository.save(department);
+        eventLevelRepository.save(eventLevel);
+
+        IntStream.range(1, 6).forEach(i -> {
+            User user = User.ofNewMember(
+                    "user" + i,
+                    "user" + i + "@email.com",
+                    "password" + i,
+                    "010-0000-000" + i,
+                    department,
+                    role,
+                    eventLevel
+            );
+            if (i == 3) {
+                user.updateWithdrawalAt();
+            }
+            userRepository.save(user);
+        });
+
+        entityManager.clear();
+
+        List<UserResponse> users = userRepository.findUserResponsesByUserEmails(
+                List.of("user1@email.com", "user3@email.com", "user5@email.com", "none@email.com"));
+
+        Assertions.assertEquals(2, users.size());
+        Assertions.assertTrue(users.stream().anyMatch(user -> "user1@email.com".equals(user.getUserEmail())));
+        Assertions.assertTrue(users.stream().anyMatch(user -> "user5@email.com".equals(user.getUserEmail())));
+    }
+
     @Test
     @DisplayName("이메일 사용자 존재 여부 확인")
     void existsByUserEmailAndWithdrawalAtIsNull() {
@@ -148,7 +243,9 @@ class UserRepositoryTest {
                     "user" + i + "@email.com",
                     "password" + i,
                     "010-0000-000" + i,
-                    department
+                    department,
+                    role,
+                    eventLevel
             );
             if (i == 5 || i == 8) {
                 user.updateWithdrawalAt();
@@ -184,7 +281,9 @@ class UserRepositoryTest {
                     "user" + i + "@email.com",
                     "password" + i,
                     "010-0000-000" + i,
-                    department
+                    department,
+                    role,
+                    eventLevel
             );
             if (i == 5 || i == 8) {
                 user.updateWithdrawalAt();
@@ -202,4 +301,104 @@ class UserRepositoryTest {
         Assertions.assertTrue(activeUser.isPresent());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("프로필 이미지와 함께 사용자 조회 - 이미지가 지연 로딩 없이 채워짐")
+    void findWithProfileImageByUserEmailAndWithdrawalAtIsNull() {
+        User user = settingUser();
+        Image image = new Image("/images/profile.png");
+        entityManager.persist(image);
+        user.changeProfileImage(image);
+        entityManager.flush();
+        entityManager.clear();
+
+        Optional<User> found = userRepository.findWithProfileImageByUserEmailAndWithdrawalAtIsNull("user@email.com");
+
+        Assertions.assertTrue(found.isPresent());
+        Assertions.assertTrue(Hibernate.isInitialized(found.get().getProfileImage()));
+        Assertions.assertEquals("/images/profile.png", found.get().getProfileImage().getImagePath());
+    }
+
+
+    @Test
+    @DisplayName("부서 알림 수신자 조회 - 우선순위 상한과 탈퇴 여부로 필터링")
+    void findRecipients() {
+        Department department = new Department("DEP-001", "개발부");
+        Department otherDepartment = new Department("DEP-002", "운영부");
+        Role role = new Role("ROLE_MEMBER", "멤버");
+        EventLevel info = new EventLevel("INFO", "일반 정보", 1);
+        EventLevel warning = new EventLevel("WARNING", "위험한 정보", 3);
+
+        roleRepository.save(role);
+        departmentRepository.save(department);
+        departmentRepository.save(otherDepartment);
+        eventLevelRepository.save(info);
+        eventLevelRepository.save(warning);
+
+        IntStream.range(1, 7).forEach(i -> {
+            User user = User.ofNewMember(
+                    "user" + i,
+                    "user" + i + "@email.com",
+                    "password" + i,
+                    "010-0000-000" + i,
+                    i == 6 ? otherDepartment : department,
+                    role,
+                    info
+            );
+            if (i % 2 == 0) {
+                user.updateUser(user.getUserName(), user.getUserPhone(), user.getDepartment(), warning);
+            }
+            if (i == 5) {
+                user.updateWithdrawalAt();
+            }
+            userRepository.save(user);
+        });
+
+        entityManager.clear();
+
+        List<UserRecipientResponse> lowPriority = userRepository.findRecipients("DEP-001", 1);
+        List<UserRecipientResponse> all = userRepository.findRecipients("DEP-001", null);
+
+        // DEP-001: user1~5, 탈퇴한 user5 제외, INFO(1)는 user1, user3
+        Assertions.assertEquals(List.of("user1@email.com", "user3@email.com"),
+                lowPriority.stream().map(UserRecipientResponse::getUserEmail).toList());
+        Assertions.assertEquals(4, all.size());
+    }
+
+    @Test
+    @DisplayName("전체 사용자 스트리밍 조회 - 탈퇴 사용자 제외, 사용자 번호 순")
+    void streamAllUserResponses() {
+        Department department = new Department("DEP-001", "개발부");
+        Role role = new Role("ROLE_MEMBER", "멤버");
+        EventLevel eventLevel = new EventLevel("INFO", "일반 정보", 1);
+
+        roleRepository.save(role);
+        departmentRepository.save(department);
+        eventLevelRepository.save(eventLevel);
+
+        IntStream.range(1, 6).forEach(i -> {
+            User user = User.ofNewMember(
+                    "user" + i,
+                    "user" + i + "@email.com",
+                    "password" + i,
+                    "010-0000-000" + i,
+                    department,
+                    role,
+                    eventLevel
+            );
+            if (i == 3) {
+                user.updateWithdrawalAt();
+            }
+            userRepository.save(user);
+        });
+
+        entityManager.clear();
+
+        try (Stream<UserResponse> users = userRepository.streamAllUserResponses(2)) {
+            List<String> emails = users.map(UserResponse::getUserEmail).toList();
+
+            Assertions.assertEquals(
+                    List.of("user1@email.com", "user2@email.com", "user4@email.com", "user5@email.com"),
+                    emails);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.nhnacademy.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.eventlevel.dto.EventLevelResponse;
+import com.nhnacademy.user.dto.UserFileFormat;
+import com.nhnacademy.user.dto.UserResponse;
+import com.nhnacademy.user.repository.UserRepository;
+import com.nhnacademy.user.service.impl.UserExportServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class UserExportServiceImplTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Spy
+    ObjectMapper objectMapper;
+
+    @InjectMocks
+    UserExportServiceImpl userExportService;
+
+    private static UserResponse user(long userNo, String userName) {
+        return new UserResponse("ROLE_MEMBER", userNo, userName, "user" + userNo + "@email.com", "010-1234-5678",
+                new DepartmentResponse("DEP-001", "개발팀"),
+                new EventLevelResponse("INFO", "일반 정보", 1));
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - 한 줄에 사용자 한 명")
+    void exportUsers_ndjson() throws IOException {
+        when(userRepository.streamAllUserResponses(anyInt())).thenReturn(Stream.of(user(1L, "user1"), user(2L, "user2")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = userExportService.exportUsers(UserFileFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, count);
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals("user2@email.com", objectMapper.readTree(lines[1]).get("userEmail").asText());
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더와 구분자가 포함된 값의 이스케이프")
+    void exportUsers_csv() throws IOException {
+        when(userRepository.streamAllUserResponses(anyInt())).thenReturn(Stream.of(user(1L, "홍, \"길동\"")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userExportService.exportUsers(UserFileFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertTrue(lines[0].endsWith("userNo,userName,userEmail,userPhone,userRole,"
+                + "departmentId,departmentName,eventLevelName,eventLevelPriority"));
+        Assertions.assertEquals("1,\"홍, \"\"길동\"\"\",user1@email.com,010-1234-5678,ROLE_MEMBER,DEP-001,개발팀,INFO,1", lines[1]);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 수식으로 시작하는 값은 '를 붙여 텍스트로 내보냄")
+    void exportUsers_csvFormulaInjection() throws IOException {
+        UserResponse user = new UserResponse("ROLE_MEMBER", 1L, "=HYPERLINK(\"http://evil.example\",\"click\")",
+                "user1@email.com", "+82-10-1234-5678",
+                new DepartmentResponse("DEP-001", "@개발팀"),
+                new EventLevelResponse("INFO", "일반 정보", -1));
+        when(userRepository.streamAllUserResponses(anyInt())).thenReturn(Stream.of(user));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userExportService.exportUsers(UserFileFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals("1,\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"click\"\")\",user1@email.com,"
+                + "\"'+82-10-1234-5678\",ROLE_MEMBER,DEP-001,\"'@개발팀\",INFO,-1", lines[1]);
+    }
+
+    @Test
+    @DisplayName("출력 스트림 쓰기 실패 시 조회 스트림을 닫고 중단")
+    void exportUsers_clientDisconnected() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<UserResponse> users = Stream.generate(() -> user(1L, "user1")).onClose(() -> closed.set(true));
+        when(userRepository.streamAllUserResponses(anyInt())).thenReturn(users);
+
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        Assertions.assertThrows(IOException.class,
+                () -> userExportService.exportUsers(UserFileFormat.NDJSON, disconnected));
+        Assertions.assertTrue(closed.get());
+    }
+}
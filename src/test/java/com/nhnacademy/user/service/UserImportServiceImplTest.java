@@ -0,0 +1,160 @@
+package com.nhnacademy.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
+import com.nhnacademy.common.security.BulkheadPasswordEncoder;
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.user.counter.ActiveUserCounter;
+import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.dto.UserFileFormat;
+import com.nhnacademy.user.dto.UserImportResponse;
+import com.nhnacademy.user.dto.UserImportRowResult;
+import com.nhnacademy.user.lookup.KnownEmailFilter;
+import com.nhnacademy.user.repository.UserBulkInsertRepository;
+import com.nhnacademy.user.repository.UserRepository;
+import com.nhnacademy.user.service.impl.UserImportServiceImpl;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class UserImportServiceImplTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    UserBulkInsertRepository userBulkInsertRepository;
+
+    @Mock
+    ReferenceDataRegistry referenceData;
+
+    @Mock
+    ActiveUserCounter activeUserCounter;
+
+    @Mock
+    KnownEmailFilter knownEmailFilter;
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    UserImportServiceImpl userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportServiceImpl(
+                userRepository,
+                userBulkInsertRepository,
+                new BulkheadPasswordEncoder(new BCryptPasswordEncoder(4), executor, Duration.ofSeconds(5)),
+                referenceData,
+                activeUserCounter,
+                knownEmailFilter,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper()
+        );
+        ReflectionTestUtils.setField(userImportService, "maxRows", 100);
+        ReflectionTestUtils.setField(userImportService, "hashParallelism", 2);
+
+        when(referenceData.existsDepartment(anyString())).thenReturn(false);
+        when(referenceData.existsDepartment("DEP-001")).thenReturn(true);
+        when(referenceData.findDepartment("DEP-001")).thenReturn(Optional.of(new DepartmentResponse("DEP-001", "개발팀")));
+        when(userBulkInsertRepository.insertAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("CSV 일괄 등록 - 행별 결과와 한 번의 중복 확인 쿼리")
+    void importUsers_csv() throws IOException {
+        String csv = """
+                userName,userEmail,userPassword,userPhone,userDepartment
+                홍길동,new1@email.com,Password1!,010-1111-1111,DEP-001
+                김철수,exists@email.com,Password1!,010-2222-2222,DEP-001
+                이영희,new1@email.com,Password1!,010-3333-3333,DEP-001
+                박민수,new2@email.com,short,010-4444-4444,DEP-001
+                최지우,new3@email.com,Password1!,010-5555-5555,DEP-999
+                "정, 하나",new4@email.com,Password1!,010-6666-6666,DEP-001
+                """;
+        when(userRepository.findExistingUserEmails(anyCollection())).thenReturn(List.of("exists@email.com"));
+
+        UserImportResponse response = userImportService.importUsers(UserFileFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(6, response.getTotal());
+        Assertions.assertEquals(2, response.getCreated());
+        Assertions.assertEquals(List.of(
+                        UserImportRowResult.Status.CREATED,
+                        UserImportRowResult.Status.DUPLICATE_EMAIL,
+                        UserImportRowResult.Status.DUPLICATE_EMAIL,
+                        UserImportRowResult.Status.INVALID,
+                        UserImportRowResult.Status.DEPARTMENT_NOT_FOUND,
+                        UserImportRowResult.Status.CREATED),
+                response.getResults().stream().map(UserImportRowResult::getStatus).toList());
+        Assertions.assertEquals(2, response.getResults().get(0).getLine());
+
+        verify(userRepository, times(1)).findExistingUserEmails(anyCollection());
+        verify(activeUserCounter, times(2)).userJoined("DEP-001");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserBulkInsertRepository.NewUser>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBulkInsertRepository).insertAll(captor.capture());
+        List<UserBulkInsertRepository.NewUser> inserted = captor.getValue();
+        Assertions.assertEquals("정, 하나", inserted.get(1).userName());
+        Assertions.assertTrue(new BCryptPasswordEncoder().matches("Password1!", inserted.get(0).userPassword()));
+        Assertions.assertEquals("DEP-001", inserted.get(0).departmentId());
+        Assertions.assertEquals(User.DEFAULT_ROLE_ID, inserted.get(0).roleId());
+        Assertions.assertEquals(User.DEFAULT_EVENT_LEVEL_NAME, inserted.get(0).eventLevelName());
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 등록 - 잘못된 JSON 행은 INVALID")
+    void importUsers_ndjson() throws IOException {
+        String ndjson = """
+                {"userName":"홍길동","userEmail":"new1@email.com","userPassword":"Password1!","userPhone":"010-1111-1111","userDepartment":"DEP-001"}
+                {"userName":
+                """;
+        when(userRepository.findExistingUserEmails(anyCollection())).thenReturn(List.of());
+
+        UserImportResponse response = userImportService.importUsers(UserFileFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(1, response.getCreated());
+        Assertions.assertEquals(UserImportRowResult.Status.INVALID, response.getResults().get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("등록할 행이 없으면 insert 하지 않음")
+    void importUsers_nothingToInsert() throws IOException {
+        String csv = "userName,userEmail,userPassword,userPhone,userDepartment\n";
+
+        UserImportResponse response = userImportService.importUsers(UserFileFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(0, response.getTotal());
+        verify(userBulkInsertRepository, never()).insertAll(anyList());
+    }
+}
@@ -0,0 +1,256 @@
+package com.nhnacademy.user.service;
+
+import com.nhnacademy.common.cache.CacheNames;
+import com.nhnacademy.common.config.CacheConfig;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
+import com.nhnacademy.department.domain.Department;
+import com.nhnacademy.department.dto.DepartmentRequest;
+import com.nhnacademy.department.dto.DepartmentResponse;
+import com.nhnacademy.department.repository.DepartmentRepository;
+import com.nhnacademy.department.service.DepartmentService;
+import com.nhnacademy.department.service.impl.DepartmentServiceImpl;
+import com.nhnacademy.eventlevel.domain.EventLevel;
+import com.nhnacademy.eventlevel.dto.EventLevelRequest;
+import com.nhnacademy.eventlevel.dto.EventLevelResponse;
+import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.eventlevel.service.EventLevelService;
+import com.nhnacademy.eventlevel.service.impl.EventLevelServiceImpl;
+import com.nhnacademy.role.repository.RoleRepository;
+import com.nhnacademy.user.counter.ActiveUserCounter;
+import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.dto.UserResponse;
+import com.nhnacademy.user.dto.UserRoleUpdateRequest;
+import com.nhnacademy.user.dto.UserUpdateRequest;
+import com.nhnacademy.user.lookup.KnownEmailFilter;
+import com.nhnacademy.user.repository.UserRepository;
+import com.nhnacademy.user.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserServiceImpl}의 캐시 적용과 무효화를 캐시 프록시를 거쳐 확인합니다.
+ * <p>
+ * 실제 {@link CacheConfig}의 Caffeine 캐시 매니저를 사용하고, 리포지토리 호출 횟수로 캐시 적중 여부를 판단합니다.
+ * </p>
+ */
+@SpringBootTest(classes = {CacheConfig.class, UserServiceImpl.class, DepartmentServiceImpl.class, EventLevelServiceImpl.class},
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class UserServiceCacheTest {
+    private static final String EMAIL = "user@email.com";
+    private static final String OTHER_EMAIL = "other@email.com";
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    DepartmentService departmentService;
+
+    @Autowired
+    EventLevelService eventLevelService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @MockitoBean
+    PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    UserRepository userRepository;
+
+    @MockitoBean
+    RoleRepository roleRepository;
+
+    @MockitoBean
+    DepartmentRepository departmentRepository;
+
+    @MockitoBean
+    EventLevelRepository eventLevelRepository;
+
+    @MockitoBean
+    ActiveUserCounter activeUserCounter;
+
+    @MockitoBean
+    ReferenceDataRegistry referenceData;
+
+    @MockitoBean
+    KnownEmailFilter knownEmailFilter;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Mockito.when(userRepository.findUserResponseByUserEmail(Mockito.anyString()))
+                .thenAnswer(invocation -> Optional.of(response(invocation.getArgument(0))));
+        Mockito.when(userRepository.findUserRoleIdByUserEmail(Mockito.anyString())).thenReturn(Optional.of("ROLE_MEMBER"));
+
+        User user = Mockito.mock(User.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(user.getDepartment().getDepartmentId()).thenReturn("DEP-001");
+        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+
+        Mockito.when(referenceData.existsDepartment(Mockito.anyString())).thenReturn(true);
+        Mockito.when(referenceData.existsEventLevel(Mockito.anyString())).thenReturn(true);
+        Mockito.when(referenceData.existsRole(Mockito.anyString())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("사용자 조회 - 두 번째 조회는 캐시에서 반환")
+    void getUser_cached() {
+        UserResponse first = userService.getUser(EMAIL);
+        UserResponse second = userService.getUser(EMAIL);
+
+        Assertions.assertSame(first, second);
+        Mockito.verify(userRepository, Mockito.times(1)).findUserResponseByUserEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("권한 조회 - 두 번째 조회는 캐시에서 반환")
+    void getUserRole_cached() {
+        userService.getUserRole(EMAIL);
+        userService.getUserRole(EMAIL);
+
+        Mockito.verify(userRepository, Mockito.times(1)).findUserRoleIdByUserEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 수정 - 해당 사용자의 조회 캐시만 제거")
+    void updateUser_evictsOwnEntry() {
+        warmUp();
+
+        userService.updateUser(EMAIL, new UserUpdateRequest("변경", "010-0000-0000", "DEP-001", "INFO"));
+
+        Assertions.assertNull(cached(CacheNames.USER_RESPONSE, EMAIL));
+        Assertions.assertNotNull(cached(CacheNames.USER_RESPONSE, OTHER_EMAIL));
+        Assertions.assertNotNull(cached(CacheNames.USER_ROLE, EMAIL));
+    }
+
+    @Test
+    @DisplayName("권한 변경 - 해당 사용자의 권한과 조회 캐시 제거")
+    void updateUserRole_evictsRoleAndResponse() {
+        warmUp();
+
+        userService.updateUserRole(new UserRoleUpdateRequest(EMAIL, "ROLE_ADMIN"));
+
+        Assertions.assertNull(cached(CacheNames.USER_ROLE, EMAIL));
+        Assertions.assertNull(cached(CacheNames.USER_RESPONSE, EMAIL));
+        Assertions.assertNotNull(cached(CacheNames.USER_ROLE, OTHER_EMAIL));
+        Assertions.assertNotNull(cached(CacheNames.USER_RESPONSE, OTHER_EMAIL));
+    }
+
+    @Test
+    @DisplayName("권한 변경 트랜잭션 - 커밋 전 동시 조회가 변경 전 권한을 다시 캐시하지 않고 커밋 뒤 제거")
+    void updateUserRole_inTransaction_evictsAfterCommit() {
+        userService.getUserRole(EMAIL);
+
+        new TransactionTemplate(new NoOpTransactionManager()).executeWithoutResult(status -> {
+            userService.updateUserRole(new UserRoleUpdateRequest(EMAIL, "ROLE_ADMIN"));
+
+            // 커밋 전 다른 스레드의 조회는 아직 커밋되지 않은 변경을 볼 수 없습니다.
+            String concurrentRead = CompletableFuture.supplyAsync(() -> userService.getUserRole(EMAIL))
+                    .orTimeout(5, TimeUnit.SECONDS)
+                    .join();
+            Assertions.assertEquals("ROLE_MEMBER", concurrentRead);
+            Assertions.assertNotNull(cached(CacheNames.USER_ROLE, EMAIL));
+
+            Mockito.when(userRepository.findUserRoleIdByUserEmail(EMAIL)).thenReturn(Optional.of("ROLE_ADMIN"));
+        });
+
+        Assertions.assertNull(cached(CacheNames.USER_ROLE, EMAIL));
+        Assertions.assertEquals("ROLE_ADMIN", userService.getUserRole(EMAIL));
+    }
+
+    @Test
+    @DisplayName("탈퇴 - 해당 사용자의 권한과 조회 캐시 제거")
+    void deleteUser_evictsRoleAndResponse() {
+        warmUp();
+
+        userService.deleteUser(EMAIL);
+
+        Assertions.assertNull(cached(CacheNames.USER_ROLE, EMAIL));
+        Assertions.assertNull(cached(CacheNames.USER_RESPONSE, EMAIL));
+        Assertions.assertNotNull(cached(CacheNames.USER_RESPONSE, OTHER_EMAIL));
+    }
+
+    @Test
+    @DisplayName("부서 이름 변경 - 부서 이름을 담은 사용자 조회 캐시 전체 제거")
+    void updateDepartment_clearsUserResponses() {
+        warmUp();
+        Mockito.when(departmentRepository.findById("DEP-001"))
+                .thenReturn(Optional.of(new Department("DEP-001", "개발팀", null, null)));
+
+        departmentService.updateDepartment(new DepartmentRequest("DEP-001", "플랫폼팀"));
+
+        Assertions.assertNull(cached(CacheNames.USER_RESPONSE, EMAIL));
+        Assertions.assertNull(cached(CacheNames.USER_RESPONSE, OTHER_EMAIL));
+        Assertions.assertNotNull(cached(CacheNames.USER_ROLE, EMAIL));
+    }
+
+    @Test
+    @DisplayName("이벤트 레벨 수정 - 이벤트 레벨을 담은 사용자 조회 캐시 전체 제거")
+    void updateEventLevel_clearsUserResponses() {
+        warmUp();
+        Mockito.when(eventLevelRepository.findById("INFO"))
+                .thenReturn(Optional.of(new EventLevel("INFO", "일반 정보", 1)));
+
+        eventLevelService.updateEventLevel(new EventLevelRequest("INFO", "정보", 2));
+
+        Assertions.assertNull(cached(CacheNames.USER_RESPONSE, EMAIL));
+        Assertions.assertNull(cached(CacheNames.USER_RESPONSE, OTHER_EMAIL));
+        Assertions.assertNotNull(cached(CacheNames.USER_ROLE, EMAIL));
+    }
+
+    private void warmUp() {
+        for (String email : new String[]{EMAIL, OTHER_EMAIL}) {
+            userService.getUser(email);
+            userService.getUserRole(email);
+        }
+    }
+
+    private Object cached(String cacheName, String key) {
+        return cacheManager.getCache(cacheName).get(key);
+    }
+
+    private static UserResponse response(String userEmail) {
+        return new UserResponse("ROLE_MEMBER", 1L, "user", userEmail, "010-1234-5678",
+                new DepartmentResponse("DEP-001", "개발팀"),
+                new EventLevelResponse("INFO", "일반 정보", 1));
+    }
+
+    /**
+     * 데이터소스 없이 트랜잭션 동기화(커밋 후 콜백)만 동작시키는 트랜잭션 매니저입니다.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
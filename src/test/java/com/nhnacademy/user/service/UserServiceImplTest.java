@@ -1,27 +1,35 @@
 package com.nhnacademy.user.service;
 
+import com.nhnacademy.common.exception.BadRequestException;
 import com.nhnacademy.common.exception.ConflictException;
 import com.nhnacademy.common.exception.NotFoundException;
 import com.nhnacademy.common.exception.UnauthorizedException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
 import com.nhnacademy.department.domain.Department;
+import com.nhnacademy.eventlevel.domain.EventLevel;
 import com.nhnacademy.department.dto.DepartmentResponse;
 import com.nhnacademy.department.repository.DepartmentRepository;
 import com.nhnacademy.eventlevel.dto.EventLevelResponse;
 import com.nhnacademy.eventlevel.repository.EventLevelRepository;
 import com.nhnacademy.role.domain.Role;
 import com.nhnacademy.role.repository.RoleRepository;
+import com.nhnacademy.user.counter.ActiveUserCounter;
 import com.nhnacademy.user.domain.User;
 import com.nhnacademy.user.dto.*;
+import com.nhnacademy.user.lookup.KnownEmailFilter;
 import com.nhnacademy.user.repository.UserRepository;
 import com.nhnacademy.user.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,8 +37,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.IntStream;
 
 @ExtendWith(SpringExtension.class)
@@ -50,9 +61,23 @@ class UserServiceImplTest {
     @Mock
     EventLevelRepository eventLevelRepository;
 
+    @Mock
+    ActiveUserCounter activeUserCounter;
+
+    @Mock
+    ReferenceDataRegistry referenceData;
+
+    @Mock
+    KnownEmailFilter knownEmailFilter;
+
     @InjectMocks
     UserServiceImpl userService;
 
+    @BeforeEach
+    void setUp() {
+        Mockito.when(knownEmailFilter.mightExist(Mockito.anyString())).thenReturn(true);
+    }
+
     @Test
     @DisplayName("유저가입 - 새로운 사용자 등록")
     void createUser() {
@@ -64,14 +89,17 @@ class UserServiceImplTest {
                 "DEP-001"
         );
 
-        Mockito.when(userRepository.existsByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(false);
-        Mockito.when(departmentRepository.existsById(Mockito.anyString())).thenReturn(true);
+        Mockito.when(referenceData.existsDepartment(Mockito.anyString())).thenReturn(true);
 
         userService.createUser(userRegisterRequest, false);
 
-        Mockito.verify(userRepository, Mockito.times(1)).existsByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.never()).existsByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
         Mockito.verify(passwordEncoder, Mockito.times(1)).encode(Mockito.anyString());
-        Mockito.verify(userRepository, Mockito.times(1)).save(Mockito.any(User.class));
+        Mockito.verify(roleRepository, Mockito.times(1)).getReferenceById(User.DEFAULT_ROLE_ID);
+        Mockito.verify(eventLevelRepository, Mockito.times(1)).getReferenceById(User.DEFAULT_EVENT_LEVEL_NAME);
+        Mockito.verify(userRepository, Mockito.times(1)).saveAndFlush(Mockito.any(User.class));
+        Mockito.verify(activeUserCounter, Mockito.times(1)).userJoined("DEP-001");
+        Mockito.verify(knownEmailFilter, Mockito.times(1)).add("test@email.com");
     }
 
     @Test
@@ -85,12 +113,31 @@ class UserServiceImplTest {
                 "DEP-001"
         );
 
-        Mockito.when(userRepository.existsByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(true);
+        Mockito.when(referenceData.existsDepartment(Mockito.anyString())).thenReturn(true);
+        Mockito.when(userRepository.saveAndFlush(Mockito.any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("Duplicate entry", "23000", 1062)));
 
         Assertions.assertThrows(ConflictException.class, () -> userService.createUser(userRegisterRequest, false));
 
-        Mockito.verify(userRepository, Mockito.times(1)).existsByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
-        Mockito.verify(userRepository, Mockito.never()).save(Mockito.any(User.class));
+        Mockito.verify(activeUserCounter, Mockito.never()).userJoined(Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("유저가입 - 이메일 중복이 아닌 제약 위반은 그대로 전파")
+    void createUser_otherConstraintViolation() {
+        UserRegisterRequest userRegisterRequest = new UserRegisterRequest(
+                "testUser",
+                "test@email.com",
+                "testPassword",
+                "010-1234-5678",
+                "DEP-001"
+        );
+
+        Mockito.when(referenceData.existsDepartment(Mockito.anyString())).thenReturn(true);
+        Mockito.when(userRepository.saveAndFlush(Mockito.any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("Cannot add or update a child row", "23000", 1452)));
+
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> userService.createUser(userRegisterRequest, false));
     }
 
     @Test
@@ -104,13 +151,12 @@ class UserServiceImplTest {
                 "DEP-001"
         );
 
-        Mockito.when(userRepository.existsByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(false);
-        Mockito.when(departmentRepository.findById(Mockito.anyString())).thenReturn(Optional.empty());
+        Mockito.when(referenceData.existsDepartment(Mockito.anyString())).thenReturn(false);
 
         Assertions.assertThrows(NotFoundException.class, () -> userService.createUser(userRegisterRequest, false));
 
-        Mockito.verify(userRepository, Mockito.times(1)).existsByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
-        Mockito.verify(userRepository, Mockito.never()).save(Mockito.any(User.class));
+        Mockito.verify(passwordEncoder, Mockito.never()).encode(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.never()).saveAndFlush(Mockito.any(User.class));
     }
 
     @Test
@@ -157,6 +203,26 @@ class UserServiceImplTest {
         Mockito.verify(userRepository, Mockito.times(1)).findUserResponseByUserEmail(Mockito.anyString());
     }
 
+    @Test
+    @DisplayName("이메일 기반 사용자 권한 조회")
+    void getUserRole() {
+        Mockito.when(userRepository.findUserRoleIdByUserEmail(Mockito.anyString())).thenReturn(Optional.of("ROLE_ADMIN"));
+
+        String userRole = userService.getUserRole("admin@email.com");
+
+        Mockito.verify(userRepository, Mockito.times(1)).findUserRoleIdByUserEmail(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.never()).findUserResponseByUserEmail(Mockito.anyString());
+        Assertions.assertEquals("ROLE_ADMIN", userRole);
+    }
+
+    @Test
+    @DisplayName("이메일 기반 사용자 권한 조회 - 존재하지 않는 유저")
+    void getUserRole_exception1() {
+        Mockito.when(userRepository.findUserRoleIdByUserEmail(Mockito.anyString())).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NotFoundException.class, () -> userService.getUserRole("none@email.com"));
+    }
+
     @Test
     @DisplayName("서비스에서 페이징된 사용자 목록 가져오기")
     void getAllUser_withPaging() {
@@ -189,6 +255,72 @@ class UserServiceImplTest {
     }
 
 
+    @Test
+    @DisplayName("집계된 활성 사용자 수가 있으면 count 쿼리 없이 페이지 조회")
+    void getAllUser_withCounter() {
+        Pageable pageable = PageRequest.of(1, 10);
+
+        List<UserResponse> userResponses = IntStream.range(11, 21)
+                .mapToObj(i -> new UserResponse(
+                        "ROLE_MEMBER",
+                        (long) i,
+                        "testUser" + i,
+                        "test" + i + "@email.com",
+                        "010-1234-567" + i,
+                        new DepartmentResponse("DEP-001", "개발부"),
+                        new EventLevelResponse("error", "에러", 4)
+                ))
+                .toList();
+
+        Mockito.when(activeUserCounter.getTotal()).thenReturn(OptionalLong.of(100));
+        Mockito.when(userRepository.findUserResponses(pageable)).thenReturn(userResponses);
+
+        Page<UserResponse> result = userService.getAllUser(pageable);
+
+        Mockito.verify(userRepository, Mockito.never()).findAllUserResponse(Mockito.any(Pageable.class));
+        Assertions.assertEquals(100, result.getTotalElements());
+        Assertions.assertEquals(10, result.getContent().size());
+    }
+
+    @Test
+    @DisplayName("커서 기반 사용자 목록 조회 - 다음 페이지 존재")
+    void getUsersByCursor() {
+        List<UserResponse> userResponses = IntStream.range(1, 12)
+                .mapToObj(i -> new UserResponse(
+                        "ROLE_MEMBER",
+                        (long) i,
+                        "testUser" + i,
+                        "test" + i + "@email.com",
+                        "010-1234-567" + i,
+                        new DepartmentResponse("DEP-001", "개발부"),
+                        new EventLevelResponse("error", "에러", 4)
+                ))
+                .toList();
+
+        Mockito.when(userRepository.findUserResponsesAfter(null, 11)).thenReturn(userResponses);
+
+        UserCursorResponse firstPage = userService.getUsersByCursor(null, 10);
+
+        Assertions.assertEquals(10, firstPage.getContent().size());
+        Assertions.assertTrue(firstPage.isHasNext());
+        Assertions.assertNotNull(firstPage.getNextCursor());
+
+        Mockito.when(userRepository.findUserResponsesAfter(10L, 11)).thenReturn(userResponses.subList(10, 11));
+
+        UserCursorResponse secondPage = userService.getUsersByCursor(firstPage.getNextCursor(), 10);
+
+        Assertions.assertEquals(1, secondPage.getContent().size());
+        Assertions.assertFalse(secondPage.isHasNext());
+        Assertions.assertNull(secondPage.getNextCursor());
+        Mockito.verify(userRepository, Mockito.never()).findAllUserResponse(Mockito.any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 기반 사용자 목록 조회 - 잘못된 커서")
+    void getUsersByCursor_exception1() {
+        Assertions.assertThrows(BadRequestException.class, () -> userService.getUsersByCursor("not-a-cursor!", 10));
+    }
+
     @Test
     @DisplayName("로그인")
     void loginUser() {
@@ -202,7 +334,9 @@ class UserServiceImplTest {
                 "test@email.com",
                 passwordEncoder.encode("P@ssw0rd"),
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
@@ -211,6 +345,37 @@ class UserServiceImplTest {
 
         Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
         Mockito.verify(passwordEncoder, Mockito.times(1)).matches(Mockito.any(CharSequence.class), Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.never()).rehashPassword(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 - 현재 설정보다 낮은 비용의 해시는 다시 해시해 저장")
+    void loginUser_rehashLegacyHash() {
+        UserLoginRequest userLoginRequest = new UserLoginRequest(
+                "test@email.com",
+                "P@ssw0rd"
+        );
+
+        String legacyHash = new BCryptPasswordEncoder(4).encode("P@ssw0rd");
+        User user = User.ofNewMember(
+                "testUser",
+                "test@email.com",
+                legacyHash,
+                "010-1234-5678",
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
+        );
+
+        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+
+        userService.loginUser(userLoginRequest);
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(userRepository, Mockito.times(1))
+                .rehashPassword(Mockito.eq("test@email.com"), Mockito.eq(legacyHash), newHash.capture());
+        Assertions.assertTrue(passwordEncoder.matches("P@ssw0rd", newHash.getValue()));
+        Assertions.assertFalse(passwordEncoder.upgradeEncoding(newHash.getValue()));
     }
 
     @Test
@@ -229,6 +394,22 @@ class UserServiceImplTest {
         Mockito.verify(passwordEncoder, Mockito.never()).matches(Mockito.any(CharSequence.class), Mockito.anyString());
     }
 
+    @Test
+    @DisplayName("로그인 - 다른 인스턴스에서 가입한 이메일일 수 있으므로 블룸 필터와 관계없이 DB로 확인")
+    void loginUser_ignoresEmailFilter() {
+        UserLoginRequest userLoginRequest = new UserLoginRequest(
+                "unknown@email.com",
+                "P@ssw0rd"
+        );
+        Mockito.when(knownEmailFilter.mightExist("unknown@email.com")).thenReturn(false);
+        Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull("unknown@email.com")).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NotFoundException.class, () -> userService.loginUser(userLoginRequest));
+
+        Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull("unknown@email.com");
+        Mockito.verify(knownEmailFilter, Mockito.never()).mightExist(Mockito.anyString());
+    }
+
     @Test
     @DisplayName("로그인 - 비밀번호 불일치")
     void loginUser_exception2() {
@@ -242,7 +423,9 @@ class UserServiceImplTest {
                 "test@email.com",
                 passwordEncoder.encode("P@ssw0rd"),
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
@@ -268,17 +451,24 @@ class UserServiceImplTest {
                 "test@email.com",
                 passwordEncoder.encode("P@ssw0rd"),
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.updatePassword(Mockito.anyString(), Mockito.anyString(), Mockito.any(LocalDateTime.class))).thenReturn(1);
 
         userService.changePassword(userEmail, changePasswordRequest);
 
         Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
         Mockito.verify(passwordEncoder, Mockito.times(1)).matches(Mockito.any(CharSequence.class), Mockito.anyString());
 
-        Assertions.assertTrue(passwordEncoder.matches(changePasswordRequest.getNewPassword(), user.getUserPassword()));
+        ArgumentCaptor<String> passwordCaptor = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(userRepository, Mockito.times(1)).updatePassword(Mockito.eq(userEmail), passwordCaptor.capture(), Mockito.any(LocalDateTime.class));
+        Mockito.verify(userRepository, Mockito.never()).save(Mockito.any(User.class));
+
+        Assertions.assertTrue(passwordEncoder.matches(changePasswordRequest.getNewPassword(), passwordCaptor.getValue()));
     }
 
     @Test
@@ -314,7 +504,9 @@ class UserServiceImplTest {
                 "test@email.com",
                 passwordEncoder.encode("P@ssw0rd"),
                 "010-1234-5678",
-                new Department("DEP-001", "개발팀")
+                new Department("DEP-001", "개발팀"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
@@ -343,12 +535,14 @@ class UserServiceImplTest {
                 "test@email.com",
                 passwordEncoder.encode("P@ssw0rd"),
                 "010-1234-5678",
-                department
+                department,
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
-        Mockito.when(departmentRepository.existsById(Mockito.anyString())).thenReturn(true);
-        Mockito.when(eventLevelRepository.existsById(Mockito.anyString())).thenReturn(true);
+        Mockito.when(referenceData.existsDepartment(Mockito.anyString())).thenReturn(true);
+        Mockito.when(referenceData.existsEventLevel(Mockito.anyString())).thenReturn(true);
 
         userService.updateUser(userEmail, userUpdateRequest);
 
@@ -384,7 +578,7 @@ class UserServiceImplTest {
         User user = Mockito.mock(User.class);
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
-        Mockito.when(departmentRepository.existsById(Mockito.anyString())).thenReturn(false);
+        Mockito.when(referenceData.existsDepartment(Mockito.anyString())).thenReturn(false);
 
 
         Assertions.assertThrows(NotFoundException.class, () -> userService.updateUser(userEmail, userUpdateRequest));
@@ -401,8 +595,8 @@ class UserServiceImplTest {
         User user = Mockito.mock(User.class);
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
-        Mockito.when(departmentRepository.existsById(Mockito.anyString())).thenReturn(true);
-        Mockito.when(eventLevelRepository.existsById(Mockito.anyString())).thenReturn(false);
+        Mockito.when(referenceData.existsDepartment(Mockito.anyString())).thenReturn(true);
+        Mockito.when(referenceData.existsEventLevel(Mockito.anyString())).thenReturn(false);
 
 
         Assertions.assertThrows(NotFoundException.class, () -> userService.updateUser(userEmail, userUpdateRequest));
@@ -425,11 +619,13 @@ class UserServiceImplTest {
                 "test@email.com",
                 passwordEncoder.encode("P@ssw0rd"),
                 "010-1234-5678",
-                new Department("DEP-001", "개발부")
+                new Department("DEP-001", "개발부"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
-        Mockito.when(roleRepository.existsById(Mockito.anyString())).thenReturn(true);
+        Mockito.when(referenceData.existsRole(Mockito.anyString())).thenReturn(true);
         Mockito.when(roleRepository.getReferenceById(Mockito.anyString())).thenReturn(new Role("ROLE_OWNER", "팀장"));
 
         userService.updateUserRole(userRoleUpdateRequest);
@@ -468,11 +664,13 @@ class UserServiceImplTest {
                 "test@email.com",
                 passwordEncoder.encode("P@ssw0rd"),
                 "010-1234-5678",
-                new Department("DEP-001", "개발부")
+                new Department("DEP-001", "개발부"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
-        Mockito.when(roleRepository.existsById(Mockito.anyString())).thenReturn(false);
+        Mockito.when(referenceData.existsRole(Mockito.anyString())).thenReturn(false);
 
         Assertions.assertThrows(NotFoundException.class, () -> userService.updateUserRole(request));
 
@@ -489,7 +687,9 @@ class UserServiceImplTest {
                 "test@email.com",
                 passwordEncoder.encode("P@ssw0rd"),
                 "010-1234-5678",
-                new Department("DEP-001", "개발부")
+                new Department("DEP-001", "개발부"),
+                new Role(User.DEFAULT_ROLE_ID, "멤버"),
+                new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1)
         );
 
         Mockito.when(userRepository.findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString())).thenReturn(Optional.of(user));
@@ -497,6 +697,7 @@ class UserServiceImplTest {
         userService.deleteUser(userEmail);
 
         Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+        Mockito.verify(activeUserCounter, Mockito.times(1)).userWithdrew("DEP-001");
 
         Assertions.assertNotNull(user.getWithdrawalAt());
     }
@@ -510,4 +711,44 @@ class UserServiceImplTest {
 
         Mockito.verify(userRepository, Mockito.times(1)).findByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이메일 목록 일괄 조회 - 요청 순서 유지, 중복 제거, 없는 이메일 분리")
+    void getUsersByEmails() {
+        UserResponse user1 = new UserResponse("ROLE_MEMBER", 1L, "user1", "user1@email.com", "010-0000-0001",
+                new DepartmentResponse("DEP-001", "개발팀"), new EventLevelResponse("INFO", "일반 정보", 1));
+        UserResponse user2 = new UserResponse("ROLE_MEMBER", 2L, "user2", "user2@email.com", "010-0000-0002",
+                new DepartmentResponse("DEP-001", "개발팀"), new EventLevelResponse("INFO", "일반 정보", 1));
+
+        Mockito.when(userRepository.findUserResponsesByUserEmails(Mockito.anyCollection())).thenReturn(List.of(user1, user2));
+
+        UserBatchResponse<String> response = userService.getUsersByEmails(
+                List.of("user2@email.com", "none@email.com", "user1@email.com", "user2@email.com"));
+
+        Mockito.verify(userRepository, Mockito.times(1)).findUserResponsesByUserEmails(Mockito.anyCollection());
+
+        Assertions.assertEquals(List.of("user2@email.com", "user1@email.com"),
+                response.getUsers().stream().map(UserResponse::getUserEmail).toList());
+        Assertions.assertEquals(List.of("none@email.com"), response.getMissing());
+    }
+
+    @Test
+    @DisplayName("이메일 존재 확인 - 블룸 필터에 없으면 DB 조회 없이 false")
+    void existsByUserEmail_definiteNegative() {
+        Mockito.when(knownEmailFilter.mightExist("none@email.com")).thenReturn(false);
+
+        Assertions.assertFalse(userService.existsByUserEmail("none@email.com"));
+
+        Mockito.verify(userRepository, Mockito.never()).existsByUserEmailAndWithdrawalAtIsNull(Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("이메일 존재 확인 - 블룸 필터에 있을 수 있으면 DB로 확인")
+    void existsByUserEmail_possiblePositive() {
+        Mockito.when(userRepository.existsByUserEmailAndWithdrawalAtIsNull("user@email.com")).thenReturn(true);
+
+        Assertions.assertTrue(userService.existsByUserEmail("user@email.com"));
+
+        Mockito.verify(userRepository, Mockito.times(1)).existsByUserEmailAndWithdrawalAtIsNull("user@email.com");
+    }
+}
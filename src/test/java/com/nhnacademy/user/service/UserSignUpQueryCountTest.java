@@ -0,0 +1,125 @@
+package com.nhnacademy.user.service;
+
+import com.nhnacademy.common.exception.ConflictException;
+import com.nhnacademy.common.reference.ReferenceDataRegistry;
+import com.nhnacademy.department.domain.Department;
+import com.nhnacademy.department.repository.DepartmentRepository;
+import com.nhnacademy.eventlevel.domain.EventLevel;
+import com.nhnacademy.eventlevel.repository.EventLevelRepository;
+import com.nhnacademy.role.domain.Role;
+import com.nhnacademy.role.repository.RoleRepository;
+import com.nhnacademy.user.counter.ActiveUserCounter;
+import com.nhnacademy.user.domain.User;
+import com.nhnacademy.user.dto.UserRegisterRequest;
+import com.nhnacademy.user.repository.UserRepository;
+import com.nhnacademy.user.service.impl.UserServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원가입 한 건에 실행되는 SQL 수를 확인하는 테스트입니다.
+ * <p>
+ * 서비스가 직접 트랜잭션을 열고 커밋하는 경로를 검증하므로 테스트 트랜잭션을 사용하지 않고, 데이터는 테스트마다 정리합니다.
+ * </p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserServiceImpl.class, ActiveUserCounter.class, ReferenceDataRegistry.class,
+        UserSignUpQueryCountTest.PasswordEncoderConfig.class})
+class UserSignUpQueryCountTest {
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    DepartmentRepository departmentRepository;
+
+    @Autowired
+    EventLevelRepository eventLevelRepository;
+
+    @Autowired
+    ReferenceDataRegistry referenceData;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository.save(new Role(User.DEFAULT_ROLE_ID, "멤버"));
+        eventLevelRepository.save(new EventLevel(User.DEFAULT_EVENT_LEVEL_NAME, "일반 정보", 1));
+        departmentRepository.save(new Department("DEP-001", "개발부", null, null));
+
+        // 참조 데이터 스냅샷을 미리 적재해 측정에서 제외합니다.
+        referenceData.reconcile();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        departmentRepository.deleteAllInBatch();
+        eventLevelRepository.deleteAllInBatch();
+        roleRepository.deleteAllInBatch();
+    }
+
+    private static UserRegisterRequest request(String email) {
+        return new UserRegisterRequest("testUser", email, "Password1!", "010-1234-5678", "DEP-001");
+    }
+
+    @Test
+    @DisplayName("회원가입 - insert 한 번만 실행하고 권한/이벤트 레벨/부서를 조회하지 않음")
+    void createUser_singleInsert() {
+        userService.createUser(request("new@email.com"), false);
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertTrue(userRepository.existsByUserEmailAndWithdrawalAtIsNull("new@email.com"));
+    }
+
+    @Test
+    @DisplayName("회원가입 - 중복 이메일은 유니크 제약 위반을 409로 변환")
+    void createUser_duplicateEmail() {
+        userService.createUser(request("dup@email.com"), false);
+        statistics.clear();
+
+        Assertions.assertThrows(ConflictException.class, () -> userService.createUser(request("dup@email.com"), false));
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, userRepository.count());
+    }
+}